@@ -0,0 +1,21 @@
+package com.monthlybudget.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * The one clock that decides what "today" and "this month" are. Dashboards, reports and month-end
+ * snapshots all read it, so they agree on where a month ends whatever zone the server runs in.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock(@Value("${app.zone:UTC}") ZoneId zone) {
+        return Clock.system(zone);
+    }
+}
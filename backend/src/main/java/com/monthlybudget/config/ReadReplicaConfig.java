@@ -0,0 +1,73 @@
+package com.monthlybudget.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to a replica when {@code app.datasource.replica.url} is set.
+ * The auto-configured pool stays the primary and is wrapped in a {@link LazyConnectionDataSourceProxy}:
+ * the transaction manager marks the connection read-only before the first statement runs, and only then
+ * does the proxy pick which pool to borrow from. Everything else, including non-transactional access,
+ * goes to the primary.
+ * <p>
+ * The replica pool is a bean of its own, so it is closed on shutdown. It is not a default candidate, so the
+ * auto-configured primary pool still gets created and plain {@code DataSource} injection still gets the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    static BeanPostProcessor readReplicaRouting(Environment environment,
+                                                @Qualifier("replica") ObjectProvider<DataSource> replica) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource primary) || !"dataSource".equals(beanName)) {
+                    return bean;
+                }
+                return routing(primary, replica.getObject(),
+                        Duration.ofSeconds(environment.getProperty(
+                                "app.datasource.replica.retry-after-seconds", Long.class, 30L)));
+            }
+        };
+    }
+
+    /**
+     * Wraps {@code primary} so read-only transactions use {@code replica}, falling back to the primary
+     * for {@code retryAfter} whenever the replica refuses a connection.
+     */
+    public static DataSource routing(DataSource primary, DataSource replica, Duration retryAfter) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(new ReplicaFallbackDataSource(replica, primary, retryAfter));
+        return proxy;
+    }
+
+    @Bean(defaultCandidate = false, destroyMethod = "close")
+    @Qualifier("replica")
+    static HikariDataSource replicaDataSource(Environment environment) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(environment.getRequiredProperty("app.datasource.replica.url"));
+        replica.setUsername(environment.getProperty("app.datasource.replica.username",
+                environment.getProperty("spring.datasource.username")));
+        replica.setPassword(environment.getProperty("app.datasource.replica.password",
+                environment.getProperty("spring.datasource.password")));
+        replica.setMaximumPoolSize(environment.getProperty("app.datasource.replica.maximum-pool-size", Integer.class, 10));
+        replica.setConnectionTimeout(environment.getProperty("app.datasource.replica.connection-timeout-ms", Long.class, 2000L));
+        replica.setReadOnly(true);
+        // Start even if the replica is down; the fallback covers it until it comes back
+        replica.setInitializationFailTimeout(-1);
+        return replica;
+    }
+}
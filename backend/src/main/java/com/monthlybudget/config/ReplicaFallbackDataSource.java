@@ -0,0 +1,56 @@
+package com.monthlybudget.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Hands out replica connections, or primary connections while the replica is unreachable.
+ * After a failed attempt the replica is skipped for {@code retryAfter}, so an outage costs one
+ * connection timeout per window rather than one per request.
+ */
+@Slf4j
+public class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+    private final DataSource primary;
+    private final Duration retryAfter;
+    private final Clock clock;
+
+    private volatile Instant replicaDownUntil = Instant.MIN;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryAfter) {
+        this(replica, primary, retryAfter, Clock.systemUTC());
+    }
+
+    ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryAfter, Clock clock) {
+        super(replica);
+        this.primary = primary;
+        this.retryAfter = retryAfter;
+        this.clock = clock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (clock.instant().isBefore(replicaDownUntil)) {
+            return primary.getConnection();
+        }
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            replicaDownUntil = clock.instant().plus(retryAfter);
+            log.warn("Read replica unavailable, sending reads to the primary for {}: {}", retryAfter, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+}
@@ -3,6 +3,7 @@ package com.monthlybudget.config;
 import com.monthlybudget.security.CustomUserDetailsService;
 import com.monthlybudget.security.JwtAuthenticationFilter;
 import com.monthlybudget.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -56,11 +57,14 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
+        // Async dispatches (closing an event stream) finish requests that were authorized when they started;
+        // the JWT filter does not run on them, so they would otherwise be rejected as anonymous
         if (h2ConsoleEnabled) {
             http
                     .headers(headers -> headers
                             .frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin))
                     .authorizeHttpRequests(auth -> auth
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                             .requestMatchers("/h2-console/**").permitAll()
                             .requestMatchers(publicPaths).permitAll()
                             .anyRequest().authenticated());
@@ -69,6 +73,7 @@ public class SecurityConfig {
                     .headers(headers -> headers
                             .frameOptions(HeadersConfigurer.FrameOptionsConfig::deny))
                     .authorizeHttpRequests(auth -> auth
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                             .requestMatchers(publicPaths).permitAll()
                             .anyRequest().authenticated());
         }
@@ -1,14 +1,21 @@
 package com.monthlybudget.controller;
 
 import com.monthlybudget.dto.request.AccountRequest;
+import com.monthlybudget.dto.response.AccountBalanceResponse;
 import com.monthlybudget.dto.response.AccountResponse;
+import com.monthlybudget.dto.response.BalanceHistoryResponse;
 import com.monthlybudget.service.AccountService;
+import com.monthlybudget.service.BalanceHistoryService;
+import com.monthlybudget.service.BalanceSnapshotService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,10 +24,13 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final ConditionalResponses conditionalResponses;
+    private final BalanceHistoryService balanceHistoryService;
+    private final BalanceSnapshotService balanceSnapshotService;
 
     @GetMapping
-    public ResponseEntity<List<AccountResponse>> getAll() {
-        return ResponseEntity.ok(accountService.getAllForCurrentUser());
+    public ResponseEntity<List<AccountResponse>> getAll(WebRequest webRequest) {
+        return conditionalResponses.ifModified(webRequest, accountService::getAllForCurrentUser);
     }
 
     @GetMapping("/{id}")
@@ -28,6 +38,21 @@ public class AccountController {
         return ResponseEntity.ok(accountService.getById(id));
     }
 
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<AccountBalanceResponse> getBalance(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return ResponseEntity.ok(balanceSnapshotService.getBalance(id, asOf));
+    }
+
+    @GetMapping("/{id}/balance-history")
+    public ResponseEntity<BalanceHistoryResponse> getBalanceHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(balanceHistoryService.getHistory(id, from, to));
+    }
+
     @PostMapping
     public ResponseEntity<AccountResponse> create(@Valid @RequestBody AccountRequest request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(accountService.create(request));
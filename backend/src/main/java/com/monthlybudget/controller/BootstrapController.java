@@ -0,0 +1,32 @@
+package com.monthlybudget.controller;
+
+import com.monthlybudget.dto.response.BootstrapResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.service.BootstrapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/bootstrap")
+@RequiredArgsConstructor
+public class BootstrapController {
+
+    private final BootstrapService bootstrapService;
+    private final ConditionalResponses conditionalResponses;
+
+    @Value("${app.pagination.max-page-size:200}")
+    private int maxPageSize;
+
+    @GetMapping
+    public ResponseEntity<BootstrapResponse> get(@RequestParam(defaultValue = "20") int limit,
+                                                 WebRequest webRequest) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than 0");
+        }
+        int pageSize = Math.min(limit, maxPageSize);
+        return conditionalResponses.ifModified(webRequest, () -> bootstrapService.getForCurrentUser(pageSize));
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,10 +18,11 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ConditionalResponses conditionalResponses;
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAll() {
-        return ResponseEntity.ok(categoryService.getAllForCurrentUser());
+    public ResponseEntity<List<CategoryResponse>> getAll(WebRequest webRequest) {
+        return conditionalResponses.ifModified(webRequest, categoryService::getAllForCurrentUser);
     }
 
     @GetMapping("/{id}")
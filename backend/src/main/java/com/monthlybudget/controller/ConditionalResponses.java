@@ -0,0 +1,51 @@
+package com.monthlybudget.controller;
+
+import com.monthlybudget.service.DataVersionService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Answers list requests with a 304 when the client's {@code If-None-Match} still matches the user's
+ * data version, so the body supplier (and every query behind it) only runs when something changed.
+ */
+@Component
+public class ConditionalResponses {
+
+    // Let clients keep the list but make them ask before reusing it
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final DataVersionService dataVersionService;
+    private final TransactionOperations readOnlyTransactions;
+
+    public ConditionalResponses(DataVersionService dataVersionService, PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        // One snapshot for the version and the body, including bodies gathered from several queries
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.dataVersionService = dataVersionService;
+        this.readOnlyTransactions = template;
+    }
+
+    public <T> ResponseEntity<T> ifModified(WebRequest request, Supplier<T> body) {
+        String cachedEtag = dataVersionService.etagForCurrentUser();
+        if (request.checkNotModified(cachedEtag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedEtag).cacheControl(REVALIDATE).build();
+        }
+        // The body's read-only transaction joins this one, so with a replica the version and the body come
+        // from the same database, version first; replication applies commits in order, so the body is never
+        // older than its ETag
+        return readOnlyTransactions.execute(status -> {
+            String etag = dataVersionService.freshEtagForCurrentUser();
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+        });
+    }
+}
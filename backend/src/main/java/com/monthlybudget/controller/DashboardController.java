@@ -0,0 +1,23 @@
+package com.monthlybudget.controller;
+
+import com.monthlybudget.dto.response.DashboardSummaryResponse;
+import com.monthlybudget.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryResponse> getSummary(
+            @RequestParam(required = false) List<Long> accountIds) {
+        return ResponseEntity.ok(dashboardService.getSummary(accountIds));
+    }
+}
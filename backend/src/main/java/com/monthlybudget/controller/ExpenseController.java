@@ -1,13 +1,17 @@
 package com.monthlybudget.controller;
 
 import com.monthlybudget.dto.request.ExpenseRequest;
+import com.monthlybudget.dto.response.CursorPageResponse;
 import com.monthlybudget.dto.response.ExpenseResponse;
+import com.monthlybudget.exception.BadRequestException;
 import com.monthlybudget.service.ExpenseService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,10 +21,25 @@ import java.util.List;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
+    private final ConditionalResponses conditionalResponses;
+
+    @Value("${app.pagination.max-page-size:200}")
+    private int maxPageSize;
 
     @GetMapping
-    public ResponseEntity<List<ExpenseResponse>> getAll() {
-        return ResponseEntity.ok(expenseService.getAllForCurrentUser());
+    public ResponseEntity<List<ExpenseResponse>> getAll(WebRequest webRequest) {
+        return conditionalResponses.ifModified(webRequest, expenseService::getAllForCurrentUser);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponse<ExpenseResponse>> getPage(@RequestParam int limit,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       WebRequest webRequest) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than 0");
+        }
+        int pageSize = Math.min(limit, maxPageSize);
+        return conditionalResponses.ifModified(webRequest, () -> expenseService.getPageForCurrentUser(cursor, pageSize));
     }
 
     @GetMapping("/{id}")
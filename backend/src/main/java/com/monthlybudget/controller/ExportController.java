@@ -0,0 +1,53 @@
+package com.monthlybudget.controller;
+
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.service.ExportFormat;
+import com.monthlybudget.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final LocalDate EARLIEST = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    private final ExportService exportService;
+
+    @GetMapping("/transactions")
+    public void exportTransactions(@RequestParam(defaultValue = "csv") String format,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                   @RequestParam(defaultValue = "false") boolean gzip,
+                                   HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        LocalDate fromDate = from != null ? from : EARLIEST;
+        LocalDate toDate = to != null ? to : LATEST;
+        if (fromDate.isAfter(toDate)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+
+        String filename = "transactions." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024)) {
+                exportService.exportTransactions(exportFormat, fromDate, toDate, gzipOut);
+            }
+        } else {
+            exportService.exportTransactions(exportFormat, fromDate, toDate, out);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,10 +18,11 @@ import java.util.List;
 public class GoalController {
 
     private final GoalService goalService;
+    private final ConditionalResponses conditionalResponses;
 
     @GetMapping
-    public ResponseEntity<List<GoalResponse>> getAll() {
-        return ResponseEntity.ok(goalService.getAllForCurrentUser());
+    public ResponseEntity<List<GoalResponse>> getAll(WebRequest webRequest) {
+        return conditionalResponses.ifModified(webRequest, goalService::getAllForCurrentUser);
     }
 
     @GetMapping("/{id}")
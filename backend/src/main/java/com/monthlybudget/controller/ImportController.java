@@ -0,0 +1,32 @@
+package com.monthlybudget.controller;
+
+import com.monthlybudget.dto.response.ImportResultResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/transactions", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultResponse> importTransactions(@RequestParam("file") MultipartFile file)
+            throws IOException {
+        if (file.isEmpty()) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(importService.importTransactions(in));
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.monthlybudget.controller;
 
 import com.monthlybudget.dto.request.IncomeRequest;
+import com.monthlybudget.dto.response.CursorPageResponse;
 import com.monthlybudget.dto.response.IncomeResponse;
+import com.monthlybudget.exception.BadRequestException;
 import com.monthlybudget.service.IncomeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,10 +21,25 @@ import java.util.List;
 public class IncomeController {
 
     private final IncomeService incomeService;
+    private final ConditionalResponses conditionalResponses;
+
+    @Value("${app.pagination.max-page-size:200}")
+    private int maxPageSize;
 
     @GetMapping
-    public ResponseEntity<List<IncomeResponse>> getAll() {
-        return ResponseEntity.ok(incomeService.getAllForCurrentUser());
+    public ResponseEntity<List<IncomeResponse>> getAll(WebRequest webRequest) {
+        return conditionalResponses.ifModified(webRequest, incomeService::getAllForCurrentUser);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponse<IncomeResponse>> getPage(@RequestParam int limit,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      WebRequest webRequest) {
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than 0");
+        }
+        int pageSize = Math.min(limit, maxPageSize);
+        return conditionalResponses.ifModified(webRequest, () -> incomeService.getPageForCurrentUser(cursor, pageSize));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,31 @@
+package com.monthlybudget.controller;
+
+import com.monthlybudget.dto.response.TimeseriesResponse;
+import com.monthlybudget.service.ReportService;
+import com.monthlybudget.service.TimeseriesGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @GetMapping("/timeseries")
+    public ResponseEntity<TimeseriesResponse> getTimeseries(
+            @RequestParam(defaultValue = "month") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<Long> accountIds,
+            @RequestParam(required = false) List<Long> categoryIds) {
+        return ResponseEntity.ok(reportService.getTimeseries(
+                TimeseriesGranularity.fromParam(granularity), from, to, accountIds, categoryIds));
+    }
+}
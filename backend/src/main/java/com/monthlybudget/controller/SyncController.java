@@ -0,0 +1,20 @@
+package com.monthlybudget.controller;
+
+import com.monthlybudget.dto.response.SyncResponse;
+import com.monthlybudget.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(required = false) String since) {
+        return ResponseEntity.ok(syncService.changesSince(since));
+    }
+}
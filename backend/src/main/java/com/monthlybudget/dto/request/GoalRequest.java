@@ -26,4 +26,7 @@ public class GoalRequest {
 
     private LocalDate deadline;
     private Long categoryId;
+
+    // Version the client last read; an update is refused with 409 if the goal has changed since
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+public class BalanceChange {
+    private Long accountId;
+    private BigDecimal currentBalance;
+}
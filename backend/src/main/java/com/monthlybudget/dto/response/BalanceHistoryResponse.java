@@ -0,0 +1,18 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BalanceHistoryResponse {
+    private Long accountId;
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal openingBalance;
+    private List<BalancePointResponse> points;
+}
@@ -0,0 +1,15 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class BalancePointResponse {
+    private LocalDate date;
+    private BigDecimal change;
+    private BigDecimal closingBalance;
+}
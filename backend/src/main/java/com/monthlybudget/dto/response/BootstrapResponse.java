@@ -0,0 +1,20 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Everything the dashboard needs on load. Expenses and incomes are the most recent page; their
+ * {@code nextCursor} continues on the regular paged endpoints.
+ */
+@Data
+@AllArgsConstructor
+public class BootstrapResponse {
+    private List<AccountResponse> accounts;
+    private List<CategoryResponse> categories;
+    private List<GoalResponse> goals;
+    private CursorPageResponse<ExpenseResponse> expenses;
+    private CursorPageResponse<IncomeResponse> incomes;
+}
@@ -0,0 +1,17 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategorySpendingResponse {
+    private Long categoryId;
+    private String categoryName;
+    private String categoryColor;
+    private BigDecimal amount;
+}
@@ -0,0 +1,22 @@
+package com.monthlybudget.dto.response;
+
+import com.monthlybudget.model.ChangeAction;
+import com.monthlybudget.model.SyncEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One committed write, pushed to the owner's open event streams. {@code version} is the user data version
+ * the write was stamped with; {@code balances} holds the current balance of every account it moved.
+ */
+@Data
+@AllArgsConstructor
+public class ChangeEvent {
+    private SyncEntityType type;
+    private ChangeAction action;
+    private Long id;
+    private long version;
+    private List<BalanceChange> balances;
+}
@@ -0,0 +1,17 @@
+package com.monthlybudget.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class DashboardSummaryResponse {
+    private BigDecimal totalBalance;
+    private BigDecimal currentMonthExpenses;
+    private BigDecimal currentMonthIncome;
+    private Integer accountCount;
+    private List<CategorySpendingResponse> categorySpending;
+    private List<MonthlySpendingResponse> monthlySpending;
+    private List<ExpenseResponse> recentExpenses;
+}
@@ -1,12 +1,14 @@
 package com.monthlybudget.dto.response;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class ExpenseResponse {
     private Long id;
     private BigDecimal amount;
@@ -19,4 +21,21 @@ public class ExpenseResponse {
     private Long categoryId;
     private String categoryName;
     private String categoryColor;
+
+    /** Select order of the {@code SELECT new} projections in {@link com.monthlybudget.repository.ExpenseRepository}. */
+    public ExpenseResponse(Long id, BigDecimal amount, String description, LocalDate date, Boolean isReturn,
+                           LocalDateTime createdAt, Long accountId, String accountName,
+                           Long categoryId, String categoryName, String categoryColor) {
+        this.id = id;
+        this.amount = amount;
+        this.description = description;
+        this.date = date;
+        this.isReturn = isReturn;
+        this.createdAt = createdAt;
+        this.accountId = accountId;
+        this.accountName = accountName;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.categoryColor = categoryColor;
+    }
 }
\ No newline at end of file
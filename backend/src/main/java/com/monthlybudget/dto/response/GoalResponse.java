@@ -15,4 +15,5 @@ public class GoalResponse {
     private Long categoryId;
     private String categoryName;
     private Double progressPercentage;
+    private Long version;
 }
\ No newline at end of file
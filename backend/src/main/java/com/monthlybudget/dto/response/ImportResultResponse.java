@@ -0,0 +1,14 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ImportResultResponse {
+    private int imported;
+    private int rejected;
+    private List<ImportRowErrorResponse> errors;
+}
@@ -0,0 +1,11 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ImportRowErrorResponse {
+    private int line;
+    private String message;
+}
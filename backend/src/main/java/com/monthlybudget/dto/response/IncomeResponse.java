@@ -1,12 +1,14 @@
 package com.monthlybudget.dto.response;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class IncomeResponse {
     private Long id;
     private BigDecimal amount;
@@ -19,4 +21,20 @@ public class IncomeResponse {
     private String categoryName;
     private String categoryColor;
     //private String categoryIcon;
+
+    /** Select order of the {@code SELECT new} projections in {@link com.monthlybudget.repository.IncomeRepository}. */
+    public IncomeResponse(Long id, BigDecimal amount, String description, LocalDate date,
+                          LocalDateTime createdAt, Long accountId, String accountName,
+                          Long categoryId, String categoryName, String categoryColor) {
+        this.id = id;
+        this.amount = amount;
+        this.description = description;
+        this.date = date;
+        this.createdAt = createdAt;
+        this.accountId = accountId;
+        this.accountName = accountName;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.categoryColor = categoryColor;
+    }
 }
\ No newline at end of file
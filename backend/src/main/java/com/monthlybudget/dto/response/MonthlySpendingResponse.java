@@ -0,0 +1,17 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlySpendingResponse {
+    private YearMonth month;
+    private BigDecimal spent;
+    private BigDecimal returns;
+}
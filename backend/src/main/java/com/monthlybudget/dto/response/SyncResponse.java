@@ -0,0 +1,23 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Rows created or updated since the client's token, plus the ids deleted since then.
+ * With {@code fullResync} set the lists hold everything and the client should replace its copy.
+ */
+@Data
+@AllArgsConstructor
+public class SyncResponse {
+    private String token;
+    private boolean fullResync;
+    private List<AccountResponse> accounts;
+    private List<CategoryResponse> categories;
+    private List<ExpenseResponse> expenses;
+    private List<IncomeResponse> incomes;
+    private List<GoalResponse> goals;
+    private List<TombstoneResponse> deleted;
+}
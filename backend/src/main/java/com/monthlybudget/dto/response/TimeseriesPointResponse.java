@@ -0,0 +1,16 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+public class TimeseriesPointResponse {
+    private LocalDate periodStart;
+    private BigDecimal spent;
+    private BigDecimal returns;
+    private BigDecimal income;
+}
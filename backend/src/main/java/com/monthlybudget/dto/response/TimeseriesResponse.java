@@ -0,0 +1,16 @@
+package com.monthlybudget.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TimeseriesResponse {
+    private String granularity;
+    private LocalDate from;
+    private LocalDate to;
+    private List<TimeseriesPointResponse> points;
+}
@@ -0,0 +1,12 @@
+package com.monthlybudget.dto.response;
+
+import com.monthlybudget.model.SyncEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TombstoneResponse {
+    private SyncEntityType type;
+    private Long id;
+}
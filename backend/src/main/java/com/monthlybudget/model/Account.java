@@ -2,6 +2,7 @@ package com.monthlybudget.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -15,7 +16,8 @@ import java.util.List;
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -24,9 +26,21 @@ public class Account {
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal initialBalance;
 
-    @Column(nullable = false, precision = 12, scale = 2)
+    /** Only ever changed by JPQL updates in {@code AccountRepository}; entity saves never write it back. */
+    @Column(nullable = false, precision = 12, scale = 2, updatable = false)
     private BigDecimal currentBalance;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /** User data version of the last write to this row; delta sync selects on it. */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Builder.Default
+    private Long changeVersion = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -2,6 +2,7 @@ package com.monthlybudget.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,7 +15,8 @@ import java.util.List;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -26,6 +28,12 @@ public class Category {
     @Builder.Default
     private Boolean isDefault = false;
 
+    /** User data version of the last write to this row; delta sync selects on it. */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Builder.Default
+    private Long changeVersion = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
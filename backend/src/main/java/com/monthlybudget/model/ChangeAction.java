@@ -0,0 +1,7 @@
+package com.monthlybudget.model;
+
+public enum ChangeAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -2,6 +2,7 @@ package com.monthlybudget.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -16,7 +17,8 @@ import java.time.LocalDate;
 public class Goal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_seq")
+    @SequenceGenerator(name = "goals_seq", sequenceName = "goals_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -29,6 +31,17 @@ public class Goal {
     @Builder.Default
     private BigDecimal currentAmount = BigDecimal.ZERO;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /** User data version of the last write to this row; delta sync selects on it. */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Builder.Default
+    private Long changeVersion = 0L;
+
     private LocalDate deadline;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,7 @@ package com.monthlybudget.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
@@ -9,14 +10,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "incomes")
+@Table(name = "incomes", indexes = {
+        @Index(name = "idx_incomes_account_date_id", columnList = "account_id, date DESC, id DESC"),
+        @Index(name = "idx_incomes_user_date_id", columnList = "user_id, date DESC, id DESC")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class Income {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "incomes_seq")
+    @SequenceGenerator(name = "incomes_seq", sequenceName = "incomes_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, precision = 10, scale = 2)
@@ -31,10 +36,21 @@ public class Income {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /** User data version of the last write to this row; delta sync selects on it. */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Builder.Default
+    private Long changeVersion = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
 
+    /** Owner of {@link #account}, copied so a user's transactions can be paged by date without the accounts. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -0,0 +1,67 @@
+package com.monthlybudget.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated expense, return and income totals for one account, category and calendar month.
+ * Kept in step with {@link Expense} and {@link Income} writes so monthly reports never scan transactions.
+ */
+@Entity
+@Table(name = "monthly_rollups", indexes = {
+        @Index(name = "idx_monthly_rollups_user_month", columnList = "user_id, month_start"),
+        @Index(name = "idx_monthly_rollups_account_month", columnList = "account_id, month_start, category_id"),
+        @Index(name = "uk_monthly_rollups_bucket", columnList = "account_id, category_id, month_start", unique = true)
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class MonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "monthly_rollups_seq")
+    @SequenceGenerator(name = "monthly_rollups_seq", sequenceName = "monthly_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id")
+    private Category category;
+
+    @Column(nullable = false)
+    private LocalDate monthStart;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal expenseTotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long expenseCount = 0L;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal returnTotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long returnCount = 0L;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal incomeTotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long incomeCount = 0L;
+}
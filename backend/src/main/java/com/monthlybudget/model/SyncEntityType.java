@@ -0,0 +1,9 @@
+package com.monthlybudget.model;
+
+public enum SyncEntityType {
+    ACCOUNT,
+    CATEGORY,
+    EXPENSE,
+    INCOME,
+    GOAL
+}
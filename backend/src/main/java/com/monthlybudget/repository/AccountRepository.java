@@ -1,10 +1,76 @@
 package com.monthlybudget.repository;
 
+import com.monthlybudget.dto.response.BalanceChange;
 import com.monthlybudget.model.Account;
+import com.monthlybudget.repository.projection.AccountAmount;
+import com.monthlybudget.repository.projection.AccountBalances;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
     List<Account> findByUserId(Long userId);
+
+    List<Account> findByUserIdAndChangeVersionGreaterThan(Long userId, Long changeVersion);
+
+    @Query("SELECT a.id FROM Account a WHERE a.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT a.id FROM Account a WHERE a.user.id = :userId AND a.id IN :ids")
+    List<Long> findIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.AccountAmount(a.id, a.initialBalance)
+            FROM Account a
+            WHERE a.user.id IN :userIds
+            """)
+    List<AccountAmount> findInitialBalancesByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT COALESCE(SUM(a.currentBalance), 0) FROM Account a WHERE a.id IN :ids")
+    BigDecimal sumCurrentBalanceByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Not read-only on purpose: read right after a commit, a lagging replica would serve the old balance
+    @Transactional
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.BalanceChange(a.id, a.currentBalance)
+            FROM Account a
+            WHERE a.id IN :ids
+            """)
+    List<BalanceChange> findBalanceChangesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("""
+            UPDATE Account a SET a.currentBalance = a.currentBalance + :delta, a.version = a.version + 1,
+                a.changeVersion = (SELECT u.dataVersion FROM User u WHERE u.id = :userId)
+            WHERE a.id = :id AND a.user.id = :userId
+            """)
+    int adjustBalance(@Param("id") Long id, @Param("userId") Long userId, @Param("delta") BigDecimal delta);
+
+    @Query("SELECT MIN(a.id) FROM Account a")
+    Long findMinId();
+
+    @Query("SELECT MAX(a.id) FROM Account a")
+    Long findMaxId();
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.AccountBalances(a.id, a.initialBalance, a.currentBalance)
+            FROM Account a
+            WHERE a.id BETWEEN :fromId AND :toId
+            """)
+    List<AccountBalances> findBalancesByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("""
+            UPDATE Account a SET a.currentBalance = :expected, a.version = a.version + 1,
+                a.changeVersion = (SELECT u.dataVersion FROM User u WHERE u.id = a.user.id)
+            WHERE a.id = :id AND a.currentBalance = :observed
+            """)
+    int correctBalance(@Param("id") Long id, @Param("observed") BigDecimal observed,
+                       @Param("expected") BigDecimal expected);
 }
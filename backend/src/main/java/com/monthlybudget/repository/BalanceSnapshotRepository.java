@@ -0,0 +1,49 @@
+package com.monthlybudget.repository;
+
+import com.monthlybudget.model.BalanceSnapshot;
+import com.monthlybudget.repository.projection.AccountAmount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    Optional<BalanceSnapshot> findFirstByAccountIdAndMonthEndLessThanEqualOrderByMonthEndDesc(Long accountId,
+                                                                                              LocalDate date);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.AccountAmount(s.account.id, s.closingBalance)
+            FROM BalanceSnapshot s
+            WHERE s.monthEnd = :monthEnd AND s.account.id IN :accountIds
+            """)
+    List<AccountAmount> findClosingBalancesByMonthEndAndAccountIdIn(@Param("monthEnd") LocalDate monthEnd,
+                                                                    @Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Applies a back-dated change to every snapshot that already includes {@code date}.
+     */
+    @Modifying
+    @Query("""
+            UPDATE BalanceSnapshot s SET s.closingBalance = s.closingBalance + :delta
+            WHERE s.account.id = :accountId AND s.monthEnd >= :date
+            """)
+    int shiftFrom(@Param("accountId") Long accountId,
+                  @Param("date") LocalDate date,
+                  @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query("DELETE FROM BalanceSnapshot s WHERE s.monthEnd = :monthEnd AND s.account.id IN :accountIds")
+    int deleteByMonthEndAndAccountIdIn(@Param("monthEnd") LocalDate monthEnd,
+                                       @Param("accountIds") Collection<Long> accountIds);
+
+    @Modifying
+    @Query("DELETE FROM BalanceSnapshot s WHERE s.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
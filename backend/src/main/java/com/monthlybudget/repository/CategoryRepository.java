@@ -8,6 +8,5 @@ import java.util.List;
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByUserId(Long userId);
     List<Category> findByUserIdAndIsDefaultTrue(Long userId);
-
-
+    List<Category> findByUserIdAndChangeVersionGreaterThan(Long userId, Long changeVersion);
 }
@@ -1,14 +1,175 @@
 package com.monthlybudget.repository;
 
+import com.monthlybudget.dto.response.CategorySpendingResponse;
+import com.monthlybudget.dto.response.ExpenseResponse;
 import com.monthlybudget.model.Expense;
+import com.monthlybudget.repository.projection.AccountAmount;
+import com.monthlybudget.repository.projection.MonthlyTotal;
+import com.monthlybudget.repository.projection.RollupTotal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"account", "category"})
+    Optional<Expense> findById(Long id);
+
     List<Expense> findByAccountId(Long accountId);
     List<Expense> findByAccountUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to);
     List<Expense> findByCategoryId(Long categoryId);
-    List<Expense> findByAccountUserIdOrderByDateDescIdDesc(Long userId);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.ExpenseResponse(
+                e.id, e.amount, e.description, e.date, e.isReturn, e.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Expense e JOIN e.account a JOIN e.category c
+            WHERE e.user.id = :userId
+            ORDER BY e.date DESC, e.id DESC
+            """)
+    List<ExpenseResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.ExpenseResponse(
+                e.id, e.amount, e.description, e.date, e.isReturn, e.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Expense e JOIN e.account a JOIN e.category c
+            WHERE a.id IN :accountIds AND e.changeVersion > :since
+            ORDER BY e.id
+            """)
+    List<ExpenseResponse> findResponsesChangedSince(@Param("accountIds") Collection<Long> accountIds,
+                                                    @Param("since") long since);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.ExpenseResponse(
+                e.id, e.amount, e.description, e.date, e.isReturn, e.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Expense e JOIN e.account a JOIN e.category c
+            WHERE e.user.id = :userId
+            ORDER BY e.date DESC, e.id DESC
+            """)
+    List<ExpenseResponse> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.ExpenseResponse(
+                e.id, e.amount, e.description, e.date, e.isReturn, e.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Expense e JOIN e.account a JOIN e.category c
+            WHERE e.user.id = :userId
+              AND (e.date < :date OR (e.date = :date AND e.id < :id))
+            ORDER BY e.date DESC, e.id DESC
+            """)
+    List<ExpenseResponse> findPageAfter(@Param("userId") Long userId,
+                                        @Param("date") LocalDate date,
+                                        @Param("id") Long id,
+                                        Limit limit);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.ExpenseResponse(
+                e.id, e.amount, e.description, e.date, e.isReturn, e.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Expense e JOIN e.account a JOIN e.category c
+            WHERE a.id IN :accountIds
+            ORDER BY e.date DESC, e.id DESC
+            """)
+    List<ExpenseResponse> findRecentByAccountIdIn(@Param("accountIds") Collection<Long> accountIds, Limit limit);
+
+    @Query("""
+            SELECT COALESCE(SUM(e.amount), 0) FROM Expense e
+            WHERE e.account.id IN :accountIds
+              AND e.isReturn = false
+              AND e.date BETWEEN :from AND :to
+            """)
+    BigDecimal sumSpentByAccountIdInAndDateBetween(@Param("accountIds") Collection<Long> accountIds,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.CategorySpendingResponse(
+                c.id, c.name, c.color, SUM(e.amount))
+            FROM Expense e JOIN e.category c
+            WHERE e.account.id IN :accountIds
+              AND e.isReturn = false
+            GROUP BY c.id, c.name, c.color
+            ORDER BY SUM(e.amount) DESC
+            """)
+    List<CategorySpendingResponse> sumSpentByCategory(@Param("accountIds") Collection<Long> accountIds);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.MonthlyTotal(
+                YEAR(e.date), MONTH(e.date), e.isReturn, SUM(e.amount))
+            FROM Expense e
+            WHERE e.account.id IN :accountIds
+              AND e.date >= :from
+            GROUP BY YEAR(e.date), MONTH(e.date), e.isReturn
+            """)
+    List<MonthlyTotal> sumByMonthSince(@Param("accountIds") Collection<Long> accountIds,
+                                       @Param("from") LocalDate from);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.RollupTotal(
+                e.account.id, e.category.id, YEAR(e.date), MONTH(e.date), e.isReturn, SUM(e.amount), COUNT(e))
+            FROM Expense e
+            WHERE e.user.id = :userId
+            GROUP BY e.account.id, e.category.id, YEAR(e.date), MONTH(e.date), e.isReturn
+            """)
+    List<RollupTotal> sumForRollupsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT COALESCE(SUM(CASE WHEN e.isReturn = true THEN e.amount ELSE -e.amount END), 0)
+            FROM Expense e
+            WHERE e.account.id = :accountId
+              AND e.date > :after AND e.date <= :upTo
+            """)
+    BigDecimal sumSignedByAccountIdAndDateRange(@Param("accountId") Long accountId,
+                                                @Param("after") LocalDate after,
+                                                @Param("upTo") LocalDate upTo);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.AccountAmount(
+                e.account.id, SUM(CASE WHEN e.isReturn = true THEN e.amount ELSE -e.amount END))
+            FROM Expense e
+            WHERE e.account.id IN :accountIds
+              AND e.date > :after AND e.date <= :upTo
+            GROUP BY e.account.id
+            """)
+    List<AccountAmount> sumSignedByAccountIdInAndDateRange(@Param("accountIds") Collection<Long> accountIds,
+                                                           @Param("after") LocalDate after,
+                                                           @Param("upTo") LocalDate upTo);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.AccountAmount(
+                e.account.id, SUM(CASE WHEN e.isReturn = true THEN e.amount ELSE -e.amount END))
+            FROM Expense e
+            WHERE e.account.id BETWEEN :fromId AND :toId
+            GROUP BY e.account.id
+            """)
+    List<AccountAmount> sumSignedByAccountIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.ExpenseResponse(
+                e.id, e.amount, e.description, e.date, e.isReturn, e.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Expense e JOIN e.account a JOIN e.category c
+            WHERE e.user.id = :userId
+              AND e.date BETWEEN :from AND :to
+            ORDER BY e.date, e.id
+            """)
+    Stream<ExpenseResponse> streamForExport(@Param("userId") Long userId,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
 }
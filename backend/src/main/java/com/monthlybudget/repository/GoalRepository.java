@@ -1,11 +1,23 @@
 package com.monthlybudget.repository;
 
 import com.monthlybudget.model.Goal;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface GoalRepository extends JpaRepository<Goal, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "category")
+    Optional<Goal> findById(Long id);
+
+    @EntityGraph(attributePaths = "category")
     List<Goal> findByUserId(Long userId);
+
     List<Goal> findByCategoryId(Long categoryId);
+
+    @EntityGraph(attributePaths = "category")
+    List<Goal> findByUserIdAndChangeVersionGreaterThan(Long userId, Long changeVersion);
 }
@@ -1,16 +1,138 @@
 package com.monthlybudget.repository;
 
+import com.monthlybudget.dto.response.IncomeResponse;
 import com.monthlybudget.model.Income;
-import org.mapstruct.Mapper;
+import com.monthlybudget.repository.projection.AccountAmount;
+import com.monthlybudget.repository.projection.RollupTotal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IncomeRepository extends JpaRepository<Income, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"account", "category"})
+    Optional<Income> findById(Long id);
+
     List<Income> findByAccountId(Long accountId);
-    List<Income> findByAccountUserIdOrderByDateDescIdDesc(Long userId);
     List<Income> findByAccountUserIdAndDateBetween(Long userId, LocalDate from, LocalDate to);
     List<Income> findByCategoryId(Long categoryId);
-}
\ No newline at end of file
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.IncomeResponse(
+                i.id, i.amount, i.description, i.date, i.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Income i JOIN i.account a LEFT JOIN i.category c
+            WHERE i.user.id = :userId
+            ORDER BY i.date DESC, i.id DESC
+            """)
+    List<IncomeResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.IncomeResponse(
+                i.id, i.amount, i.description, i.date, i.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Income i JOIN i.account a LEFT JOIN i.category c
+            WHERE a.id IN :accountIds AND i.changeVersion > :since
+            ORDER BY i.id
+            """)
+    List<IncomeResponse> findResponsesChangedSince(@Param("accountIds") Collection<Long> accountIds,
+                                                   @Param("since") long since);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.IncomeResponse(
+                i.id, i.amount, i.description, i.date, i.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Income i JOIN i.account a LEFT JOIN i.category c
+            WHERE i.user.id = :userId
+            ORDER BY i.date DESC, i.id DESC
+            """)
+    List<IncomeResponse> findFirstPage(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.IncomeResponse(
+                i.id, i.amount, i.description, i.date, i.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Income i JOIN i.account a LEFT JOIN i.category c
+            WHERE i.user.id = :userId
+              AND (i.date < :date OR (i.date = :date AND i.id < :id))
+            ORDER BY i.date DESC, i.id DESC
+            """)
+    List<IncomeResponse> findPageAfter(@Param("userId") Long userId,
+                                       @Param("date") LocalDate date,
+                                       @Param("id") Long id,
+                                       Limit limit);
+
+    @Query("""
+            SELECT COALESCE(SUM(i.amount), 0) FROM Income i
+            WHERE i.account.id IN :accountIds
+              AND i.date BETWEEN :from AND :to
+            """)
+    BigDecimal sumByAccountIdInAndDateBetween(@Param("accountIds") Collection<Long> accountIds,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.RollupTotal(
+                i.account.id, c.id, YEAR(i.date), MONTH(i.date), false, SUM(i.amount), COUNT(i))
+            FROM Income i LEFT JOIN i.category c
+            WHERE i.user.id = :userId
+            GROUP BY i.account.id, c.id, YEAR(i.date), MONTH(i.date)
+            """)
+    List<RollupTotal> sumForRollupsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT COALESCE(SUM(i.amount), 0)
+            FROM Income i
+            WHERE i.account.id = :accountId
+              AND i.date > :after AND i.date <= :upTo
+            """)
+    BigDecimal sumByAccountIdAndDateRange(@Param("accountId") Long accountId,
+                                          @Param("after") LocalDate after,
+                                          @Param("upTo") LocalDate upTo);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.AccountAmount(i.account.id, SUM(i.amount))
+            FROM Income i
+            WHERE i.account.id IN :accountIds
+              AND i.date > :after AND i.date <= :upTo
+            GROUP BY i.account.id
+            """)
+    List<AccountAmount> sumByAccountIdInAndDateRange(@Param("accountIds") Collection<Long> accountIds,
+                                                     @Param("after") LocalDate after,
+                                                     @Param("upTo") LocalDate upTo);
+
+    @Query("""
+            SELECT new com.monthlybudget.repository.projection.AccountAmount(i.account.id, SUM(i.amount))
+            FROM Income i
+            WHERE i.account.id BETWEEN :fromId AND :toId
+            GROUP BY i.account.id
+            """)
+    List<AccountAmount> sumByAccountIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.IncomeResponse(
+                i.id, i.amount, i.description, i.date, i.createdAt,
+                a.id, a.name, c.id, c.name, c.color)
+            FROM Income i JOIN i.account a LEFT JOIN i.category c
+            WHERE i.user.id = :userId
+              AND i.date BETWEEN :from AND :to
+            ORDER BY i.date, i.id
+            """)
+    Stream<IncomeResponse> streamForExport(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+}
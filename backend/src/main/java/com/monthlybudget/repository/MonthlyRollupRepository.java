@@ -0,0 +1,77 @@
+package com.monthlybudget.repository;
+
+import com.monthlybudget.model.MonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    @Modifying
+    @Query("""
+            UPDATE MonthlyRollup r SET
+                r.expenseTotal = r.expenseTotal + :expenseTotal,
+                r.expenseCount = r.expenseCount + :expenseCount,
+                r.returnTotal = r.returnTotal + :returnTotal,
+                r.returnCount = r.returnCount + :returnCount,
+                r.incomeTotal = r.incomeTotal + :incomeTotal,
+                r.incomeCount = r.incomeCount + :incomeCount
+            WHERE r.account.id = :accountId AND r.monthStart = :monthStart
+              AND (r.category.id = :categoryId OR (:categoryId IS NULL AND r.category IS NULL))
+            """)
+    int increment(@Param("accountId") Long accountId,
+                  @Param("categoryId") Long categoryId,
+                  @Param("monthStart") LocalDate monthStart,
+                  @Param("expenseTotal") BigDecimal expenseTotal,
+                  @Param("expenseCount") long expenseCount,
+                  @Param("returnTotal") BigDecimal returnTotal,
+                  @Param("returnCount") long returnCount,
+                  @Param("incomeTotal") BigDecimal incomeTotal,
+                  @Param("incomeCount") long incomeCount);
+
+    /**
+     * Creates the bucket, or adds to it if a concurrent writer created it first.
+     * Only used when {@link #increment} found no row, so existing buckets never draw a new id.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_rollups (id, user_id, account_id, category_id, month_start,
+                                         expense_total, expense_count, return_total, return_count,
+                                         income_total, income_count)
+            VALUES (nextval('monthly_rollups_seq'), :userId, :accountId, CAST(:categoryId AS BIGINT), :monthStart,
+                    :expenseTotal, :expenseCount, :returnTotal, :returnCount, :incomeTotal, :incomeCount)
+            ON CONFLICT (account_id, category_id, month_start) DO UPDATE SET
+                expense_total = monthly_rollups.expense_total + EXCLUDED.expense_total,
+                expense_count = monthly_rollups.expense_count + EXCLUDED.expense_count,
+                return_total = monthly_rollups.return_total + EXCLUDED.return_total,
+                return_count = monthly_rollups.return_count + EXCLUDED.return_count,
+                income_total = monthly_rollups.income_total + EXCLUDED.income_total,
+                income_count = monthly_rollups.income_count + EXCLUDED.income_count
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("accountId") Long accountId,
+               @Param("categoryId") Long categoryId,
+               @Param("monthStart") LocalDate monthStart,
+               @Param("expenseTotal") BigDecimal expenseTotal,
+               @Param("expenseCount") long expenseCount,
+               @Param("returnTotal") BigDecimal returnTotal,
+               @Param("returnCount") long returnCount,
+               @Param("incomeTotal") BigDecimal incomeTotal,
+               @Param("incomeCount") long incomeCount);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r WHERE r.category.id = :categoryId")
+    int deleteByCategoryId(@Param("categoryId") Long categoryId);
+}
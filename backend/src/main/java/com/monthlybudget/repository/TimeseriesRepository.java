@@ -0,0 +1,127 @@
+package com.monthlybudget.repository;
+
+import com.monthlybudget.repository.projection.DailyBalance;
+import com.monthlybudget.repository.projection.PeriodTotal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Date-bucketed aggregates over both transaction tables, each answered by a single SQL statement.
+ * On PostgreSQL period totals are bucketed with {@code date_trunc}. Other databases (H2 in tests) get
+ * per-day totals, which the caller folds into the requested period.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimeseriesRepository {
+
+    private static final Set<String> UNITS = Set.of("day", "week", "month");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean dateTruncSupported;
+
+    public List<PeriodTotal> sumByPeriod(Long userId, String unit, LocalDate from, LocalDate to,
+                                         Collection<Long> accountIds, Collection<Long> categoryIds) {
+        if (!UNITS.contains(unit)) {
+            throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("from", from)
+                .addValue("to", to);
+
+        StringBuilder filters = new StringBuilder();
+        if (accountIds != null && !accountIds.isEmpty()) {
+            filters.append(" AND t.account_id IN (:accountIds)");
+            params.addValue("accountIds", accountIds);
+        }
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            filters.append(" AND t.category_id IN (:categoryIds)");
+            params.addValue("categoryIds", categoryIds);
+        }
+
+        String bucket = isDateTruncSupported()
+                ? "CAST(date_trunc('" + unit + "', CAST(t.date AS timestamp)) AS date)"
+                : "t.date";
+
+        String sql = """
+                SELECT bucket, SUM(spent) AS spent, SUM(returned) AS returned, SUM(income) AS income
+                FROM (
+                    SELECT %1$s AS bucket,
+                           CASE WHEN t.is_return THEN 0 ELSE t.amount END AS spent,
+                           CASE WHEN t.is_return THEN t.amount ELSE 0 END AS returned,
+                           0 AS income
+                    FROM expenses t JOIN accounts a ON a.id = t.account_id
+                    WHERE a.user_id = :userId AND t.date BETWEEN :from AND :to%2$s
+                    UNION ALL
+                    SELECT %1$s AS bucket, 0 AS spent, 0 AS returned, t.amount AS income
+                    FROM incomes t JOIN accounts a ON a.id = t.account_id
+                    WHERE a.user_id = :userId AND t.date BETWEEN :from AND :to%2$s
+                ) totals
+                GROUP BY bucket
+                ORDER BY bucket
+                """.formatted(bucket, filters);
+
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new PeriodTotal(
+                rs.getObject("bucket", LocalDate.class),
+                rs.getBigDecimal("spent"),
+                rs.getBigDecimal("returned"),
+                rs.getBigDecimal("income")));
+    }
+
+    /**
+     * Net change per day for one account (incomes and returns positive, expenses negative) with a running
+     * total computed by a window function. Everything before {@code from} is collapsed into a single row
+     * dated the day before, so the first running total is the opening position for the range.
+     */
+    public List<DailyBalance> dailyNetWithRunningTotal(Long accountId, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("accountId", accountId)
+                .addValue("from", from)
+                .addValue("openingDay", from.minusDays(1))
+                .addValue("to", to);
+
+        String sql = """
+                SELECT tx_day, net, SUM(net) OVER (ORDER BY tx_day ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) AS running
+                FROM (
+                    SELECT tx_day, SUM(net) AS net
+                    FROM (
+                        SELECT CASE WHEN t.date < :from THEN :openingDay ELSE t.date END AS tx_day, t.net
+                        FROM (
+                            SELECT e.date, CASE WHEN e.is_return THEN e.amount ELSE -e.amount END AS net
+                            FROM expenses e
+                            WHERE e.account_id = :accountId AND e.date <= :to
+                            UNION ALL
+                            SELECT i.date, i.amount AS net
+                            FROM incomes i
+                            WHERE i.account_id = :accountId AND i.date <= :to
+                        ) t
+                    ) dated
+                    GROUP BY tx_day
+                ) daily
+                ORDER BY tx_day
+                """;
+
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new DailyBalance(
+                rs.getObject("tx_day", LocalDate.class),
+                rs.getBigDecimal("net"),
+                rs.getBigDecimal("running")));
+    }
+
+    private boolean isDateTruncSupported() {
+        if (dateTruncSupported == null) {
+            String database = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            dateTruncSupported = "PostgreSQL".equals(database);
+        }
+        return dateTruncSupported;
+    }
+}
@@ -0,0 +1,26 @@
+package com.monthlybudget.repository;
+
+import com.monthlybudget.dto.response.TombstoneResponse;
+import com.monthlybudget.model.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("""
+            SELECT new com.monthlybudget.dto.response.TombstoneResponse(t.entityType, t.entityId)
+            FROM Tombstone t
+            WHERE t.user.id = :userId AND t.changeVersion > :since
+            ORDER BY t.changeVersion
+            """)
+    List<TombstoneResponse> findResponsesChangedSince(@Param("userId") Long userId, @Param("since") long since);
+
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,11 +1,55 @@
 package com.monthlybudget.repository;
 
 import com.monthlybudget.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    /**
+     * Locks the next {@code limit} users after {@code after}, in id order, until commit and returns their ids.
+     * Every ledger write bumps its owner's data version first, so this waits for their writes in flight and
+     * holds off new ones.
+     */
+    @Query(value = "SELECT id FROM users WHERE id > :after ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsAfter(@Param("after") long after, @Param("limit") int limit);
+
+    // Joins the caller's transaction, so the version comes from the same database as the data read beside it
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findDataVersionById(@Param("id") Long id);
+
+    // Outside a transaction this opens a read-write one, which reads the primary, never a lagging replica
+    @Transactional
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findDataVersionOnPrimaryById(@Param("id") Long id);
+
+    // Same row lock a write takes when it bumps the data version, without changing the version
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> lockById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id = :id")
+    int incrementDataVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+            UPDATE User u SET u.dataVersion = u.dataVersion + 1
+            WHERE u.id IN (SELECT a.user.id FROM Account a WHERE a.id IN :accountIds)
+            """)
+    int incrementDataVersionForAccounts(@Param("accountIds") Collection<Long> accountIds);
 }
@@ -0,0 +1,6 @@
+package com.monthlybudget.repository.projection;
+
+import java.math.BigDecimal;
+
+public record AccountAmount(Long accountId, BigDecimal amount) {
+}
@@ -0,0 +1,7 @@
+package com.monthlybudget.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyBalance(LocalDate day, BigDecimal net, BigDecimal runningNet) {
+}
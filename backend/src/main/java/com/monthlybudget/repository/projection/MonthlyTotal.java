@@ -0,0 +1,6 @@
+package com.monthlybudget.repository.projection;
+
+import java.math.BigDecimal;
+
+public record MonthlyTotal(Integer year, Integer month, Boolean isReturn, BigDecimal total) {
+}
@@ -0,0 +1,7 @@
+package com.monthlybudget.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PeriodTotal(LocalDate period, BigDecimal spent, BigDecimal returns, BigDecimal income) {
+}
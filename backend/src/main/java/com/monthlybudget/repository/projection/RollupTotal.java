@@ -0,0 +1,7 @@
+package com.monthlybudget.repository.projection;
+
+import java.math.BigDecimal;
+
+public record RollupTotal(Long accountId, Long categoryId, Integer year, Integer month,
+                          Boolean isReturn, BigDecimal total, Long count) {
+}
@@ -4,6 +4,7 @@ import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -13,10 +14,21 @@ public class AuthHelper {
 
     private final UserRepository userRepository;
 
-    public User getCurrentUser() {
-        String email = SecurityContextHolder.getContext()
-                .getAuthentication().getName();
-        return userRepository.findByEmail(email)
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        return userRepository.findByEmail(authentication.getName())
+                .map(User::getId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", 0L));
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns an uninitialized reference to the current user: enough for {@code getId()} and for
+     * setting relations, without a round trip to the database.
+     */
+    public User getCurrentUser() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+}
@@ -1,6 +1,6 @@
 package com.monthlybudget.security;
 
-import org.springframework.security.core.userdetails.User;
+import com.monthlybudget.model.User;
 import com.monthlybudget.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,8 +8,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
@@ -18,11 +16,11 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        com.monthlybudget.model.User user = userRepository.findByEmail(email)
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
         String password = user.getPassword() != null ? user.getPassword() : "";
 
-        return new User(user.getEmail(), user.getPassword(), Collections.emptyList());
+        return new AuthenticatedUser(user.getId(), user.getEmail(), password);
     }
 }
@@ -4,26 +4,31 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private static final int AUTH_MAX_REQUESTS = 5;      // max 10 login/register attempts
-    private static final int AUTH_WINDOW_SECONDS = 60;     // per 60 seconds
-    private static final int GENERAL_MAX_REQUESTS = 300;   // max 100 API calls
-    private static final int GENERAL_WINDOW_SECONDS = 60;  // per 60 seconds
-
-    private final Map<String, RateBucket> authBuckets = new ConcurrentHashMap<>();
-    private final Map<String, RateBucket> generalBuckets = new ConcurrentHashMap<>();
+    private final TokenBucketRateLimiter authLimiter;
+    private final TokenBucketRateLimiter generalLimiter;
+
+    public RateLimitFilter(@Value("${app.rate-limit.auth.capacity:5}") int authCapacity,
+                           @Value("${app.rate-limit.auth.window-seconds:60}") long authWindowSeconds,
+                           @Value("${app.rate-limit.auth.max-tracked-keys:100000}") int authMaxTrackedKeys,
+                           @Value("${app.rate-limit.general.capacity:300}") int generalCapacity,
+                           @Value("${app.rate-limit.general.window-seconds:60}") long generalWindowSeconds,
+                           @Value("${app.rate-limit.general.max-tracked-keys:100000}") int generalMaxTrackedKeys) {
+        // Separate maps and caps, so a flood of general traffic never evicts the buckets guarding sign-in
+        this.authLimiter = new TokenBucketRateLimiter(authCapacity, authWindowSeconds, authMaxTrackedKeys);
+        this.generalLimiter = new TokenBucketRateLimiter(generalCapacity, generalWindowSeconds, generalMaxTrackedKeys);
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -35,7 +40,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
 
         if (path.startsWith("/api/auth/")) {
-            if (!isAllowed(authBuckets, clientIp, AUTH_MAX_REQUESTS, AUTH_WINDOW_SECONDS)) {
+            if (!authLimiter.tryAcquire(clientIp)) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 response.setContentType("application/json");
                 response.getWriter().write(
@@ -46,7 +51,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         if (path.startsWith("/api/")) {
-            if (!isAllowed(generalBuckets, clientIp, GENERAL_MAX_REQUESTS, GENERAL_WINDOW_SECONDS)) {
+            if (!generalLimiter.tryAcquire(clientIp)) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 response.setContentType("application/json");
                 response.getWriter().write(
@@ -59,17 +64,10 @@ public class RateLimitFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean isAllowed(Map<String, RateBucket> buckets, String key, int max, int windowSeconds) {
-        long now = System.currentTimeMillis();
-        buckets.entrySet().removeIf(e -> e.getValue().isExpired(now));
-
-        RateBucket bucket = buckets.computeIfAbsent(key, k -> new RateBucket(now, windowSeconds));
-
-        if (bucket.isExpired(now)) {
-            bucket.reset(now);
-        }
-
-        return bucket.tryConsume(max);
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:30000}")
+    public void evictIdleBuckets() {
+        authLimiter.evictIdle();
+        generalLimiter.evictIdle();
     }
 
     private String getClientIp(HttpServletRequest request) {
@@ -83,28 +81,4 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
         return request.getRemoteAddr();
     }
-
-    private static class RateBucket {
-        private long windowStart;
-        private final int windowSeconds;
-        private final AtomicInteger count = new AtomicInteger(0);
-
-        RateBucket(long now, int windowSeconds) {
-            this.windowStart = now;
-            this.windowSeconds = windowSeconds;
-        }
-
-        boolean isExpired(long now) {
-            return (now - windowStart) > (windowSeconds * 1000L);
-        }
-
-        void reset(long now) {
-            this.windowStart = now;
-            this.count.set(0);
-        }
-
-        boolean tryConsume(int max) {
-            return count.incrementAndGet() <= max;
-        }
-    }
 }
\ No newline at end of file
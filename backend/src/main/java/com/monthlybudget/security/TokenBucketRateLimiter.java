@@ -0,0 +1,130 @@
+package com.monthlybudget.security;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket limiter implemented as GCRA: each key keeps a single "theoretical arrival time"
+ * in an {@link AtomicLong}, so a check on a tracked key is one map lookup plus a CAS.
+ * <p>
+ * A bucket allows {@code capacity} requests in a burst and refills one token every
+ * {@code window / capacity}. Idle keys are dropped by {@link #evictIdle()}. Once {@code maxKeys} are
+ * tracked, a new key first evicts the most refilled of a few keys sampled at random positions, so
+ * every key keeps a bucket of its own and a flood of fresh keys can neither lock out other clients nor free
+ * the keys it is hammering with.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int EVICTION_SAMPLE = 16;
+    // The table holds at least one key per three slots, so this many probes normally fill the sample
+    private static final int MAX_EVICTION_PROBES = 4 * EVICTION_SAMPLE;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(int capacity, long windowSeconds, int maxKeys) {
+        this(capacity, windowSeconds, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, long windowSeconds, int maxKeys, LongSupplier clock) {
+        if (capacity < 1 || windowSeconds < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("Rate limit capacity, window and key cap must be positive");
+        }
+        long windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.emissionIntervalNanos = windowNanos / capacity;
+        this.burstToleranceNanos = windowNanos - emissionIntervalNanos;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        return tryAcquire(bucketFor(key, now), now);
+    }
+
+    /**
+     * Removes keys whose bucket has fully refilled; they behave exactly like untracked keys.
+     */
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            evictMostRefilled();
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    // Dropping a key only resets it to a full bucket, so the evicted one is the key closest to full anyway.
+    // The sample has to be uniform. Neighbouring keys, or the first key after a random position, favour
+    // whatever follows a run of empty slots, and a flood of fresh keys would then push throttled keys out.
+    private void evictMostRefilled() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MostRefilled sample = new MostRefilled();
+        for (int probe = 0; probe < MAX_EVICTION_PROBES && sample.seen < EVICTION_SAMPLE; probe++) {
+            randomSlot(random).forEachRemaining(sample);
+        }
+        if (sample.candidate != null) {
+            buckets.remove(sample.candidate.getKey(), sample.candidate.getValue());
+        }
+    }
+
+    // The map has no random access, but each split of its spliterator halves the table range in O(1), so
+    // random halvings down to a single slot pick one uniformly. Every key in that slot joins the sample, so
+    // each probe yields as many keys as the table's load on average however the keys hash.
+    private Spliterator<Map.Entry<String, AtomicLong>> randomSlot(ThreadLocalRandom random) {
+        Spliterator<Map.Entry<String, AtomicLong>> slots = buckets.entrySet().spliterator();
+        for (Spliterator<Map.Entry<String, AtomicLong>> upperHalf; (upperHalf = slots.trySplit()) != null; ) {
+            if (random.nextBoolean()) {
+                slots = upperHalf;
+            }
+        }
+        return slots;
+    }
+
+    private static final class MostRefilled implements Consumer<Map.Entry<String, AtomicLong>> {
+
+        private Map.Entry<String, AtomicLong> candidate;
+        private int seen;
+
+        @Override
+        public void accept(Map.Entry<String, AtomicLong> entry) {
+            seen++;
+            if (candidate == null || entry.getValue().get() - candidate.getValue().get() < 0) {
+                candidate = entry;
+            }
+        }
+    }
+
+    private boolean tryAcquire(AtomicLong bucket, long now) {
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now;
+            if (start - now > burstToleranceNanos) {
+                return false;
+            }
+            if (bucket.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
@@ -5,11 +5,16 @@ import com.monthlybudget.dto.response.AccountResponse;
 import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.AccountMapper;
 import com.monthlybudget.model.Account;
+import com.monthlybudget.model.ChangeAction;
 import com.monthlybudget.model.User;
+import com.monthlybudget.model.SyncEntityType;
 import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.BalanceSnapshotRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
 import com.monthlybudget.security.AuthHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,41 +23,73 @@ import java.util.List;
 public class AccountService {
 
     private final AccountRepository accountRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
     private final AccountMapper accountMapper;
     private final AuthHelper authHelper;
+    private final OptimisticRetry optimisticRetry;
+    private final DataVersionService dataVersionService;
+    private final ChangeStreamService changeStreamService;
 
+    @Transactional(readOnly = true)
     public List<AccountResponse> getAllForCurrentUser() {
         User user = authHelper.getCurrentUser();
         return accountMapper.toResponseList(accountRepository.findByUserId(user.getId()));
     }
 
+    @Transactional(readOnly = true)
     public AccountResponse getById(Long id) {
         Account account = findAccountOwned(id);
         return accountMapper.toResponse(account);
     }
 
+    @Transactional
     public AccountResponse create(AccountRequest request) {
         User user = authHelper.getCurrentUser();
+        long version = dataVersionService.bump(user.getId());
 
         Account account = Account.builder()
                 .name(request.getName())
                 .initialBalance(request.getInitialBalance())
                 .currentBalance(request.getInitialBalance())
                 .user(user)
+                .changeVersion(version)
                 .build();
 
-        return accountMapper.toResponse(accountRepository.save(account));
+        Account saved = accountRepository.save(account);
+        changeStreamService.publish(user.getId(), SyncEntityType.ACCOUNT, ChangeAction.CREATED,
+                saved.getId(), version, List.of(saved.getId()));
+        return accountMapper.toResponse(saved);
     }
 
     public AccountResponse update(Long id, AccountRequest request) {
+        return optimisticRetry.run(() -> updateOnce(id, request));
+    }
+
+    private AccountResponse updateOnce(Long id, AccountRequest request) {
         Account account = findAccountOwned(id);
         account.setName(request.getName());
-        return accountMapper.toResponse(accountRepository.save(account));
+        Long userId = account.getUser().getId();
+        long version = dataVersionService.bump(userId);
+        account.setChangeVersion(version);
+        Account saved = accountRepository.save(account);
+        changeStreamService.publish(userId, SyncEntityType.ACCOUNT, ChangeAction.UPDATED, id, version, List.of());
+        return accountMapper.toResponse(saved);
     }
 
     public void delete(Long id) {
+        optimisticRetry.run(() -> deleteOnce(id));
+    }
+
+    private void deleteOnce(Long id) {
         Account account = findAccountOwned(id);
+        Long userId = account.getUser().getId();
+        long version = dataVersionService.bump(userId);
+        monthlyRollupRepository.deleteByAccountId(id);
+        balanceSnapshotRepository.deleteByAccountId(id);
+        dataVersionService.recordDeletion(userId, SyncEntityType.ACCOUNT, id, version);
         accountRepository.delete(account);
+        changeStreamService.publish(userId, SyncEntityType.ACCOUNT, ChangeAction.DELETED, id, version, List.of());
     }
 
     private Account findAccountOwned(Long id) {
@@ -8,11 +8,13 @@ import com.monthlybudget.exception.BadRequestException;
 import com.monthlybudget.model.AuthProvider;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthenticatedUser;
 import com.monthlybudget.security.GoogleTokenVerifier;
 import com.monthlybudget.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -41,18 +43,19 @@ public class AuthService {
 
         userRepository.save(user);
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
         return new AuthResponse(token, user.getEmail());
     }
 
     public AuthResponse login(LoginRequest request) {
         String normalizedEmail = normalizeEmail(request.getEmail());
 
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(normalizedEmail, request.getPassword())
         );
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
 
-        String token = jwtUtil.generateToken(normalizedEmail);
+        String token = jwtUtil.generateToken(principal.getId(), normalizedEmail);
         return new AuthResponse(token, normalizedEmail);
     }
 
@@ -77,7 +80,7 @@ public class AuthService {
                     "This email is registered with password. Please login with your password.");
         }
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
         return new AuthResponse(token, user.getEmail());
     }
 
@@ -0,0 +1,47 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Single entry point for changing {@code Account.currentBalance}.
+ * Every change is one conditional UPDATE, so concurrent writers never lose each other's deltas.
+ * The account is stamped with the owner's current data version, so callers bump it first.
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceAdjuster {
+
+    private final AccountRepository accountRepository;
+
+    /**
+     * Adds {@code delta} (may be negative) to the balance of an account owned by {@code userId}.
+     *
+     * @throws ResourceNotFoundException if the account does not exist or belongs to another user
+     */
+    public void adjust(Long accountId, Long userId, BigDecimal delta) {
+        int updated = accountRepository.adjustBalance(accountId, userId, delta);
+        if (updated == 0) {
+            throw new ResourceNotFoundException("Account", accountId);
+        }
+    }
+
+    /**
+     * Moves a transaction's effect from one account to another, or nets it when the account is unchanged.
+     */
+    public void move(Long oldAccountId, BigDecimal oldDelta, Long newAccountId, BigDecimal newDelta, Long userId) {
+        if (oldAccountId.equals(newAccountId)) {
+            BigDecimal net = newDelta.subtract(oldDelta);
+            if (net.signum() != 0) {
+                adjust(newAccountId, userId, net);
+            }
+            return;
+        }
+        adjust(oldAccountId, userId, oldDelta.negate());
+        adjust(newAccountId, userId, newDelta);
+    }
+}
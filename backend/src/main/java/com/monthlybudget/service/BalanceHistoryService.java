@@ -0,0 +1,84 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.BalanceHistoryResponse;
+import com.monthlybudget.dto.response.BalancePointResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.TimeseriesRepository;
+import com.monthlybudget.repository.projection.DailyBalance;
+import com.monthlybudget.security.AuthHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Daily closing balances derived from {@code initialBalance} and the database-side running sum of
+ * the account's transactions, so no individual transaction is loaded into the application.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceHistoryService {
+
+    static final int DEFAULT_DAYS = 90;
+    static final int MAX_DAYS = 1000;
+
+    private final AccountRepository accountRepository;
+    private final TimeseriesRepository timeseriesRepository;
+    private final AuthHelper authHelper;
+    private final Clock clock;
+
+    @Transactional(readOnly = true)
+    public BalanceHistoryResponse getHistory(Long accountId, LocalDate from, LocalDate to) {
+        Account account = findAccountOwned(accountId);
+
+        LocalDate end = to != null ? to : LocalDate.now(clock);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new BadRequestException("Range must not exceed " + MAX_DAYS + " days");
+        }
+
+        List<DailyBalance> days = timeseriesRepository.dailyNetWithRunningTotal(accountId, start, end);
+
+        BigDecimal opening = account.getInitialBalance();
+        int next = 0;
+        if (!days.isEmpty() && days.get(0).day().isBefore(start)) {
+            opening = opening.add(days.get(0).runningNet());
+            next = 1;
+        }
+
+        List<BalancePointResponse> points = new ArrayList<>((int) ChronoUnit.DAYS.between(start, end) + 1);
+        BigDecimal closing = opening;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            BigDecimal change = BigDecimal.ZERO;
+            if (next < days.size() && days.get(next).day().equals(date)) {
+                DailyBalance day = days.get(next++);
+                change = day.net();
+                closing = account.getInitialBalance().add(day.runningNet());
+            }
+            points.add(new BalancePointResponse(date, change, closing));
+        }
+
+        return new BalanceHistoryResponse(accountId, start, end, opening, points);
+    }
+
+    private Account findAccountOwned(Long id) {
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", id));
+        if (!account.getUser().getId().equals(authHelper.getCurrentUserId())) {
+            throw new ResourceNotFoundException("Account", id);
+        }
+        return account;
+    }
+}
@@ -0,0 +1,13 @@
+package com.monthlybudget.service;
+
+import java.math.BigDecimal;
+
+/**
+ * An account whose stored balance disagrees with its ledger; {@code correction} is what has to be added to fix it.
+ */
+public record BalanceMismatch(Long accountId, BigDecimal currentBalance, BigDecimal expectedBalance) {
+
+    public BigDecimal correction() {
+        return expectedBalance.subtract(currentBalance);
+    }
+}
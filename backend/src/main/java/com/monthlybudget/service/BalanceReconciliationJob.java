@@ -0,0 +1,112 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.repository.AccountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Nightly check that every stored balance still equals {@code initialBalance + incomes - expenses + returns}.
+ * Accounts are split into id ranges that run on a small fixed pool, so at most {@code parallelism}
+ * connections are taken from the pool the API is serving from. Mismatches are logged; with
+ * {@code app.reconciliation.repair=true} they are also corrected. The nightly run holds a {@link ClusterLock},
+ * so only one node checks and repairs.
+ */
+@Component
+@Slf4j
+public class BalanceReconciliationJob {
+
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+
+    private final AccountRepository accountRepository;
+    private final BalanceReconciliationService reconciliationService;
+    private final ClusterLock clusterLock;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean repair;
+
+    public BalanceReconciliationJob(AccountRepository accountRepository,
+                                    BalanceReconciliationService reconciliationService,
+                                    ClusterLock clusterLock,
+                                    @Value("${app.reconciliation.chunk-size:1000}") int chunkSize,
+                                    @Value("${app.reconciliation.parallelism:4}") int parallelism,
+                                    @Value("${app.reconciliation.repair:false}") boolean repair) {
+        this.accountRepository = accountRepository;
+        this.reconciliationService = reconciliationService;
+        this.clusterLock = clusterLock;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.repair = repair;
+    }
+
+    @Scheduled(cron = "${app.reconciliation.cron:0 30 3 * * *}")
+    public void reconcileNightly() {
+        clusterLock.runExclusively("balance-reconciliation", () -> {
+            ReconciliationReport report = reconcile(repair);
+            log.info("Reconciled {} accounts: {} mismatched, {} repaired",
+                    report.accountsChecked(), report.mismatchCount(), report.repaired());
+        });
+    }
+
+    public ReconciliationReport reconcile(boolean fix) {
+        Long minId = accountRepository.findMinId();
+        Long maxId = accountRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return new ReconciliationReport(0, 0, 0, List.of());
+        }
+
+        AtomicLong checked = new AtomicLong();
+        AtomicLong mismatched = new AtomicLong();
+        AtomicLong repaired = new AtomicLong();
+        List<BalanceMismatch> sample = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                long lo = from;
+                long hi = Math.min(from + chunkSize - 1, maxId);
+                chunks.add(executor.submit(() -> {
+                    BalanceReconciliationService.Chunk result = reconciliationService.check(lo, hi);
+                    checked.addAndGet(result.accountsChecked());
+                    List<BalanceMismatch> mismatches = result.mismatches();
+                    if (mismatches.isEmpty()) {
+                        return;
+                    }
+                    mismatched.addAndGet(mismatches.size());
+                    for (BalanceMismatch mismatch : mismatches) {
+                        log.warn("Balance drift on account {}: stored {}, ledger {}",
+                                mismatch.accountId(), mismatch.currentBalance(), mismatch.expectedBalance());
+                        if (sample.size() < MAX_REPORTED_MISMATCHES) {
+                            sample.add(mismatch);
+                        }
+                    }
+                    if (fix) {
+                        repaired.addAndGet(reconciliationService.repair(mismatches));
+                    }
+                }));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Balance reconciliation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Balance reconciliation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new ReconciliationReport(checked.get(), mismatched.get(), repaired.get(), List.copyOf(sample));
+    }
+}
@@ -0,0 +1,78 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.projection.AccountAmount;
+import com.monthlybudget.repository.projection.AccountBalances;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Checks one id range of accounts against their ledger using three grouped aggregates, never loading entities.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceReconciliationService {
+
+    private final AccountRepository accountRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final DataVersionService dataVersionService;
+
+    /**
+     * Repeatable read keeps the three queries on one snapshot, so a transaction that commits mid-check
+     * is either fully counted (ledger and balance) or not at all and never shows up as drift.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Chunk check(long fromId, long toId) {
+        List<AccountBalances> balances = accountRepository.findBalancesByIdBetween(fromId, toId);
+        if (balances.isEmpty()) {
+            return new Chunk(0, List.of());
+        }
+        Map<Long, BigDecimal> expenses = toMap(expenseRepository.sumSignedByAccountIdBetween(fromId, toId));
+        Map<Long, BigDecimal> incomes = toMap(incomeRepository.sumByAccountIdBetween(fromId, toId));
+
+        List<BalanceMismatch> mismatches = new ArrayList<>();
+        for (AccountBalances account : balances) {
+            BigDecimal expected = account.initialBalance()
+                    .add(incomes.getOrDefault(account.accountId(), BigDecimal.ZERO))
+                    .add(expenses.getOrDefault(account.accountId(), BigDecimal.ZERO));
+            if (account.currentBalance().compareTo(expected) != 0) {
+                mismatches.add(new BalanceMismatch(account.accountId(), account.currentBalance(), expected));
+            }
+        }
+        return new Chunk(balances.size(), mismatches);
+    }
+
+    /**
+     * Sets each balance to its ledger value only if it still holds the balance the check saw. An account
+     * written to since, or already corrected by someone else, is left alone and checked again next run.
+     */
+    @Transactional
+    public int repair(List<BalanceMismatch> mismatches) {
+        // Bump first so each corrected account is stamped with its owner's new version
+        dataVersionService.bumpForAccounts(mismatches.stream().map(BalanceMismatch::accountId).toList());
+        int repaired = 0;
+        for (BalanceMismatch mismatch : mismatches) {
+            repaired += accountRepository.correctBalance(
+                    mismatch.accountId(), mismatch.currentBalance(), mismatch.expectedBalance());
+        }
+        return repaired;
+    }
+
+    public record Chunk(int accountsChecked, List<BalanceMismatch> mismatches) {
+    }
+
+    private static Map<Long, BigDecimal> toMap(List<AccountAmount> amounts) {
+        return amounts.stream().collect(Collectors.toMap(AccountAmount::accountId, AccountAmount::amount));
+    }
+}
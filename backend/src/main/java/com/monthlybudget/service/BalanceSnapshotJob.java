@@ -0,0 +1,51 @@
+package com.monthlybudget.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Closes the previous month shortly after midnight on the 1st. Starting with
+ * {@code --app.snapshots.backfill-from=yyyy-MM} also writes every closed month since then, oldest first,
+ * so each month builds on the one before it. Both hold a {@link ClusterLock}, so only one node writes a month.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceSnapshotJob implements ApplicationRunner {
+
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final ClusterLock clusterLock;
+
+    @Value("${app.snapshots.backfill-from:}")
+    private String backfillFrom;
+
+    @Scheduled(cron = "${app.snapshots.cron:0 15 0 1 * *}", zone = "${app.zone:UTC}")
+    public void closePreviousMonth() {
+        clusterLock.runExclusively("balance-snapshots", () -> {
+            YearMonth month = balanceSnapshotService.lastClosedMonth();
+            int written = balanceSnapshotService.snapshotMonth(month);
+            log.info("Wrote {} balance snapshots for {}", written, month);
+        });
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillFrom.isBlank()) {
+            return;
+        }
+        clusterLock.runExclusively("balance-snapshots", () -> {
+            YearMonth last = balanceSnapshotService.lastClosedMonth();
+            for (YearMonth month = YearMonth.parse(backfillFrom); !month.isAfter(last); month = month.plusMonths(1)) {
+                int written = balanceSnapshotService.snapshotMonth(month);
+                log.info("Backfilled {} balance snapshots for {}", written, month);
+            }
+        });
+    }
+}
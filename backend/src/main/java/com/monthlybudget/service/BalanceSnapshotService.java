@@ -0,0 +1,213 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.AccountBalanceResponse;
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.BalanceSnapshot;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.BalanceSnapshotRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.repository.projection.AccountAmount;
+import com.monthlybudget.security.AuthHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Month-end closing balances per account. A point-in-time balance is the nearest earlier snapshot plus
+ * at most one month of transactions, instead of a replay from the account's first transaction.
+ * Back-dated writes shift every snapshot that already covers their date, in the writer's transaction.
+ * Months end in {@code app.zone}, not in whatever zone the server happens to run in.
+ */
+@Service
+public class BalanceSnapshotService {
+
+    // Lower bound for "all history" sums; transactions are never dated before this
+    static final LocalDate BEGINNING = LocalDate.of(1900, 1, 1);
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final AccountRepository accountRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final UserRepository userRepository;
+    private final AuthHelper authHelper;
+    private final TransactionOperations transactionOperations;
+    private final int usersPerBatch;
+    private final Clock clock;
+
+    public BalanceSnapshotService(BalanceSnapshotRepository balanceSnapshotRepository,
+                                  AccountRepository accountRepository,
+                                  ExpenseRepository expenseRepository,
+                                  IncomeRepository incomeRepository,
+                                  UserRepository userRepository,
+                                  AuthHelper authHelper,
+                                  TransactionOperations transactionOperations,
+                                  @Value("${app.snapshots.users-per-batch:500}") int usersPerBatch,
+                                  Clock clock) {
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.accountRepository = accountRepository;
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.userRepository = userRepository;
+        this.authHelper = authHelper;
+        this.transactionOperations = transactionOperations;
+        this.usersPerBatch = usersPerBatch;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public AccountBalanceResponse getBalance(Long accountId, LocalDate asOf) {
+        Account account = findAccountOwned(accountId);
+        LocalDate date = asOf != null ? asOf : LocalDate.now(clock);
+
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository
+                .findFirstByAccountIdAndMonthEndLessThanEqualOrderByMonthEndDesc(accountId, date);
+        BigDecimal base = snapshot.map(BalanceSnapshot::getClosingBalance).orElse(account.getInitialBalance());
+        LocalDate after = snapshot.map(BalanceSnapshot::getMonthEnd).orElse(BEGINNING);
+
+        BigDecimal balance = base
+                .add(expenseRepository.sumSignedByAccountIdAndDateRange(accountId, after, date))
+                .add(incomeRepository.sumByAccountIdAndDateRange(accountId, after, date));
+
+        return new AccountBalanceResponse(accountId, date, balance, snapshot.map(BalanceSnapshot::getMonthEnd).orElse(null));
+    }
+
+    /**
+     * Adds {@code delta} to every snapshot of the account that covers {@code date}.
+     * Writes dated after the last closed month cannot be covered by a snapshot and cost nothing.
+     */
+    public void shift(Long accountId, LocalDate date, BigDecimal delta) {
+        if (delta.signum() == 0 || date.isAfter(lastClosedMonth().atEndOfMonth())) {
+            return;
+        }
+        balanceSnapshotRepository.shiftFrom(accountId, date, delta);
+    }
+
+    /**
+     * The most recent month that has ended, and so the latest one {@link #snapshotMonth} can close.
+     */
+    public YearMonth lastClosedMonth() {
+        return YearMonth.now(clock).minusMonths(1);
+    }
+
+    /**
+     * Moves a transaction's effect between accounts or dates, netting it when both fall in the same month.
+     */
+    public void move(Long oldAccountId, LocalDate oldDate, BigDecimal oldDelta,
+                     Long newAccountId, LocalDate newDate, BigDecimal newDelta) {
+        if (oldAccountId.equals(newAccountId) && YearMonth.from(oldDate).equals(YearMonth.from(newDate))) {
+            shift(newAccountId, newDate, newDelta.subtract(oldDelta));
+            return;
+        }
+        shift(oldAccountId, oldDate, oldDelta.negate());
+        shift(newAccountId, newDate, newDelta);
+    }
+
+    /**
+     * Writes the closing balance of every account for {@code month}, replacing any existing snapshots
+     * for it. Accounts with a snapshot for the previous month only need that month's transactions; only
+     * accounts without one are replayed from their first transaction.
+     * <p>
+     * Users are handled {@code app.snapshots.users-per-batch} at a time, each batch in its own transaction
+     * that keeps those users locked until it commits. Otherwise a back-dated write committing between the
+     * ledger sums and the insert would find no snapshot to shift yet, be missing from this month and,
+     * through the chain, from every month after it. A user's writes wait for their own batch only.
+     *
+     * @return number of snapshots written
+     */
+    public int snapshotMonth(YearMonth month) {
+        int written = 0;
+        long after = 0;
+        while (true) {
+            long from = after;
+            Batch batch = transactionOperations.execute(status -> snapshotUsersAfter(month, from));
+            written += batch.written();
+            if (batch.userIds().size() < usersPerBatch) {
+                return written;
+            }
+            after = batch.userIds().getLast();
+        }
+    }
+
+    private Batch snapshotUsersAfter(YearMonth month, long after) {
+        LocalDate monthEnd = month.atEndOfMonth();
+        LocalDate previousEnd = month.minusMonths(1).atEndOfMonth();
+
+        List<Long> userIds = userRepository.lockIdsAfter(after, usersPerBatch);
+        if (userIds.isEmpty()) {
+            return new Batch(userIds, 0);
+        }
+        Map<Long, BigDecimal> initialBalances = toMap(accountRepository.findInitialBalancesByUserIdIn(userIds));
+        if (initialBalances.isEmpty()) {
+            return new Batch(userIds, 0);
+        }
+        Map<Long, BigDecimal> previous = toMap(balanceSnapshotRepository
+                .findClosingBalancesByMonthEndAndAccountIdIn(previousEnd, initialBalances.keySet()));
+        Map<Long, BigDecimal> monthNet = netByAccount(previous.keySet(), previousEnd, monthEnd);
+        List<Long> unsnapshotted = initialBalances.keySet().stream()
+                .filter(accountId -> !previous.containsKey(accountId))
+                .toList();
+        Map<Long, BigDecimal> historyNet = netByAccount(unsnapshotted, BEGINNING, monthEnd);
+
+        List<BalanceSnapshot> snapshots = new ArrayList<>(initialBalances.size());
+        initialBalances.forEach((accountId, initialBalance) -> {
+            BigDecimal closing = previous.containsKey(accountId)
+                    ? previous.get(accountId).add(monthNet.getOrDefault(accountId, BigDecimal.ZERO))
+                    : initialBalance.add(historyNet.getOrDefault(accountId, BigDecimal.ZERO));
+            snapshots.add(BalanceSnapshot.builder()
+                    .account(accountRepository.getReferenceById(accountId))
+                    .monthEnd(monthEnd)
+                    .closingBalance(closing)
+                    .build());
+        });
+
+        balanceSnapshotRepository.deleteByMonthEndAndAccountIdIn(monthEnd, initialBalances.keySet());
+        balanceSnapshotRepository.saveAll(snapshots);
+        return new Batch(userIds, snapshots.size());
+    }
+
+    private Map<Long, BigDecimal> netByAccount(Collection<Long> accountIds, LocalDate after, LocalDate upTo) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, BigDecimal> net = toMap(expenseRepository.sumSignedByAccountIdInAndDateRange(accountIds, after, upTo));
+        for (AccountAmount income : incomeRepository.sumByAccountIdInAndDateRange(accountIds, after, upTo)) {
+            net.merge(income.accountId(), income.amount(), BigDecimal::add);
+        }
+        return net;
+    }
+
+    private static Map<Long, BigDecimal> toMap(List<AccountAmount> amounts) {
+        Map<Long, BigDecimal> map = new HashMap<>();
+        for (AccountAmount amount : amounts) {
+            map.put(amount.accountId(), amount.amount());
+        }
+        return map;
+    }
+
+    private Account findAccountOwned(Long id) {
+        Account account = accountRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Account", id));
+        if (!account.getUser().getId().equals(authHelper.getCurrentUserId())) {
+            throw new ResourceNotFoundException("Account", id);
+        }
+        return account;
+    }
+
+    private record Batch(List<Long> userIds, int written) {
+    }
+}
@@ -6,10 +6,13 @@ import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.CategoryMapper;
 import com.monthlybudget.model.Category;
 import com.monthlybudget.model.User;
+import com.monthlybudget.model.SyncEntityType;
 import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
 import com.monthlybudget.security.AuthHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,21 +21,27 @@ import java.util.List;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final MonthlyRollupRepository monthlyRollupRepository;
     private final CategoryMapper categoryMapper;
     private final AuthHelper authHelper;
+    private final DataVersionService dataVersionService;
 
+    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllForCurrentUser() {
         User user = authHelper.getCurrentUser();
         return categoryMapper.toResponseList(categoryRepository.findByUserId(user.getId()));
     }
 
+    @Transactional(readOnly = true)
     public CategoryResponse getById(Long id) {
         Category category = findCategoryOwned(id);
         return categoryMapper.toResponse(category);
     }
 
+    @Transactional
     public CategoryResponse create(CategoryRequest request) {
         User user = authHelper.getCurrentUser();
+        long version = dataVersionService.bump(user.getId());
 
         Category category = Category.builder()
                 .name(request.getName())
@@ -40,22 +49,30 @@ public class CategoryService {
                 .color(request.getColor())
                 .isDefault(request.getIsDefault())
                 .user(user)
+                .changeVersion(version)
                 .build();
 
         return categoryMapper.toResponse(categoryRepository.save(category));
     }
 
+    @Transactional
     public CategoryResponse update(Long id, CategoryRequest request) {
         Category category = findCategoryOwned(id);
         category.setName(request.getName());
         category.setIcon(request.getIcon());
         category.setColor(request.getColor());
         category.setIsDefault(request.getIsDefault());
+        category.setChangeVersion(dataVersionService.bump(category.getUser().getId()));
         return categoryMapper.toResponse(categoryRepository.save(category));
     }
 
+    @Transactional
     public void delete(Long id) {
         Category category = findCategoryOwned(id);
+        Long userId = category.getUser().getId();
+        long version = dataVersionService.bump(userId);
+        monthlyRollupRepository.deleteByCategoryId(id);
+        dataVersionService.recordDeletion(userId, SyncEntityType.CATEGORY, id, version);
         categoryRepository.delete(category);
     }
 
@@ -0,0 +1,38 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.model.ChangeAction;
+import com.monthlybudget.model.SyncEntityType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A committed write as it travels between nodes: who it belongs to, what changed, and which account
+ * balances to send along. Balances themselves are read by the node that delivers the event.
+ */
+record ChangeNotice(Long userId, SyncEntityType type, ChangeAction action, Long id, long version,
+                    List<Long> accountIds) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        return String.join(SEPARATOR, String.valueOf(userId), type.name(), action.name(), String.valueOf(id),
+                String.valueOf(version), accountIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code payload} was not produced by {@link #encode()}
+     */
+    static ChangeNotice decode(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 6) {
+            throw new IllegalArgumentException("Malformed change notice: " + payload);
+        }
+        List<Long> accountIds = parts[5].isEmpty()
+                ? List.of()
+                : Arrays.stream(parts[5].split(",")).map(Long::valueOf).toList();
+        return new ChangeNotice(Long.valueOf(parts[0]), SyncEntityType.valueOf(parts[1]),
+                ChangeAction.valueOf(parts[2]), Long.valueOf(parts[3]), Long.parseLong(parts[4]), accountIds);
+    }
+}
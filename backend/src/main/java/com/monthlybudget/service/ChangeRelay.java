@@ -0,0 +1,198 @@
+package com.monthlybudget.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Carries committed writes to every node over PostgreSQL LISTEN/NOTIFY, so a client streaming from one
+ * node still hears about writes another node handled. NOTIFY is transactional: a notice sent inside the
+ * write's transaction goes out when it commits and never for a rollback.
+ * <p>
+ * Each node keeps one connection to the primary listening and hands every notice, its own included, to the
+ * consumer given to {@link #start}. That connection is opened outside the pool, so it never takes a slot
+ * from request handling. Notices sent while a node is reconnecting are lost to its clients;
+ * streams are a hint and delta sync catches them up. With {@code app.events.relay=local} (tests, a single
+ * node) the relay stays off and each node only delivers its own writes.
+ * <p>
+ * A second channel carries data version bumps, so every node can drop its cached version of a user
+ * whose data changed elsewhere. Listeners are told to drop everything whenever the relay (re)connects,
+ * since bumps sent while it was away are lost.
+ */
+@Component
+@Slf4j
+public class ChangeRelay {
+
+    static final String CHANNEL = "budget_changes";
+    static final String VERSIONS_CHANNEL = "budget_versions";
+    private static final String ALL_USERS = "*";
+    private static final int POLL_MILLIS = 10_000;
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long reconnectMillis;
+    private final List<VersionListener> versionListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public ChangeRelay(JdbcConnectionDetails connectionDetails, JdbcTemplate jdbcTemplate,
+                       @Value("${app.events.relay:local}") String relay,
+                       @Value("${app.events.relay-reconnect-ms:5000}") long reconnectMillis) {
+        this.connectionDetails = connectionDetails;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = "postgres".equals(relay);
+        this.reconnectMillis = reconnectMillis;
+    }
+
+    public boolean isActive() {
+        return enabled;
+    }
+
+    /**
+     * Whether this node is connected and hearing every notice sent from now on.
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    public void addVersionListener(VersionListener listener) {
+        versionListeners.add(listener);
+    }
+
+    /**
+     * Starts listening and passes each notice to {@code consumer} on the listener thread. Does nothing
+     * unless the relay is enabled.
+     */
+    public synchronized void start(Consumer<ChangeNotice> consumer) {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("change-relay").daemon().start(() -> listen(consumer));
+    }
+
+    /**
+     * Sends {@code notice} to all nodes. The NOTIFY runs on the current transaction's connection, which
+     * {@link JdbcTemplate} shares with JPA, and PostgreSQL holds it until that transaction commits and drops
+     * it on rollback. Call it from the write's transaction; outside a transaction it goes out immediately.
+     */
+    public void send(ChangeNotice notice) {
+        notify(CHANNEL, notice.encode());
+    }
+
+    /**
+     * Tells all nodes that {@code userId}'s data version changed. Sent like {@link #send}; PostgreSQL folds
+     * repeats within one transaction into one notice.
+     */
+    public void sendVersionBump(Long userId) {
+        notify(VERSIONS_CHANNEL, String.valueOf(userId));
+    }
+
+    /**
+     * Tells all nodes that the data versions of several users changed.
+     */
+    public void sendVersionBumpForAll() {
+        notify(VERSIONS_CHANNEL, ALL_USERS);
+    }
+
+    @PreDestroy
+    synchronized void stop() {
+        running = false;
+        listening = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listen(Consumer<ChangeNotice> consumer) {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                PGConnection postgres = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                    statement.execute("LISTEN " + VERSIONS_CHANNEL);
+                }
+                // Anything sent before this point may have been missed
+                versionListeners.forEach(VersionListener::bumpedAll);
+                listening = true;
+                log.info("Listening for changes from other nodes on {} and {}", CHANNEL, VERSIONS_CHANNEL);
+                while (running) {
+                    PGNotification[] notifications = postgres.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (VERSIONS_CHANNEL.equals(notification.getName())) {
+                                dispatchVersion(notification.getParameter());
+                            } else {
+                                dispatch(consumer, notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                listening = false;
+                if (!running) {
+                    return;
+                }
+                log.warn("Change relay lost its connection, reconnecting in {} ms: {}", reconnectMillis, e.getMessage());
+                try {
+                    Thread.sleep(reconnectMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void notify(String channel, String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, channel, payload);
+    }
+
+    private void dispatchVersion(String payload) {
+        if (ALL_USERS.equals(payload)) {
+            versionListeners.forEach(VersionListener::bumpedAll);
+            return;
+        }
+        try {
+            Long userId = Long.valueOf(payload);
+            versionListeners.forEach(listener -> listener.bumped(userId));
+        } catch (NumberFormatException e) {
+            log.warn("Dropping version notice {}", payload);
+        }
+    }
+
+    private static void dispatch(Consumer<ChangeNotice> consumer, String payload) {
+        try {
+            consumer.accept(ChangeNotice.decode(payload));
+        } catch (RuntimeException e) {
+            log.warn("Dropping change notice {}: {}", payload, e.getMessage());
+        }
+    }
+
+    /**
+     * Hears about data version bumps made on any node, this one included.
+     */
+    public interface VersionListener {
+
+        void bumped(Long userId);
+
+        /** Any user's version may have changed. */
+        void bumpedAll();
+    }
+}
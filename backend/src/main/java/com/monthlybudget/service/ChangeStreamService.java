@@ -0,0 +1,171 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.BalanceChange;
+import com.monthlybudget.dto.response.ChangeEvent;
+import com.monthlybudget.model.ChangeAction;
+import com.monthlybudget.model.SyncEntityType;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.security.AuthHelper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes committed writes to the owner's open server-sent event streams.
+ * Streams are async requests, so an idle connection holds no thread. Events are sent after commit
+ * on virtual threads, so a slow client never holds up the write that produced the event.
+ * Each user keeps at most {@code app.events.max-connections-per-user} streams; opening one more closes
+ * the oldest, which is usually a tab or device that went away without saying so.
+ * With several nodes, writes reach the streams on every node through the {@link ChangeRelay}.
+ */
+@Service
+@Slf4j
+public class ChangeStreamService {
+
+    private final AccountRepository accountRepository;
+    private final AuthHelper authHelper;
+    private final ChangeRelay changeRelay;
+    private final ExecutorService sender;
+    private final int maxConnectionsPerUser;
+    private final long timeoutMillis;
+    // Copy-on-write lists: streams open and close rarely, events are sent to all of them often
+    private final Map<Long, List<SseEmitter>> connections = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChangeStreamService(AccountRepository accountRepository, AuthHelper authHelper, ChangeRelay changeRelay,
+                               @Value("${app.events.max-connections-per-user:5}") int maxConnectionsPerUser,
+                               @Value("${app.events.timeout-ms:1800000}") long timeoutMillis) {
+        this(accountRepository, authHelper, changeRelay, Executors.newVirtualThreadPerTaskExecutor(),
+                maxConnectionsPerUser, timeoutMillis);
+    }
+
+    ChangeStreamService(AccountRepository accountRepository, AuthHelper authHelper, ChangeRelay changeRelay,
+                        ExecutorService sender, int maxConnectionsPerUser, long timeoutMillis) {
+        this.accountRepository = accountRepository;
+        this.authHelper = authHelper;
+        this.changeRelay = changeRelay;
+        this.sender = sender;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PostConstruct
+    void startRelay() {
+        changeRelay.start(this::deliver);
+    }
+
+    public SseEmitter subscribeCurrentUser() {
+        Long userId = authHelper.getCurrentUserId();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        List<SseEmitter> evicted = new ArrayList<>();
+        connections.compute(userId, (id, current) -> {
+            List<SseEmitter> updated = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            updated.add(emitter);
+            while (updated.size() > maxConnectionsPerUser) {
+                evicted.add(updated.removeFirst());
+            }
+            return List.copyOf(updated);
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        send(userId, emitter, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * Queues an event for the user's streams once the current transaction commits; nothing is sent for a
+     * rollback. Balances of {@code accountIds} are read at send time, and only if the user is listening.
+     */
+    public void publish(Long userId, SyncEntityType type, ChangeAction action, Long id, long version,
+                        Collection<Long> accountIds) {
+        ChangeNotice notice = new ChangeNotice(userId, type, action, id, version, List.copyOf(accountIds));
+        if (changeRelay.isActive()) {
+            // Comes back to this node through the relay like to every other one
+            changeRelay.send(notice);
+            return;
+        }
+        afterCommit(() -> deliver(notice));
+    }
+
+    void deliver(ChangeNotice notice) {
+        Long userId = notice.userId();
+        if (!connections.containsKey(userId)) {
+            return;
+        }
+        sender.execute(() -> {
+            List<BalanceChange> balances = notice.accountIds().isEmpty()
+                    ? List.of() : accountRepository.findBalanceChangesByIdIn(notice.accountIds());
+            ChangeEvent event = new ChangeEvent(notice.type(), notice.action(), notice.id(), notice.version(), balances);
+            for (SseEmitter emitter : connections.getOrDefault(userId, List.of())) {
+                send(userId, emitter, SseEmitter.event().name("change").data(event));
+            }
+        });
+    }
+
+    // Proxies drop connections that stay silent, and a failed write is how a vanished client is noticed
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connections.forEach((userId, emitters) -> emitters.forEach(emitter ->
+                sender.execute(() -> send(userId, emitter, SseEmitter.event().comment("ping")))));
+    }
+
+    int connectionCount(Long userId) {
+        return connections.getOrDefault(userId, List.of()).size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connections.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        connections.clear();
+        sender.close();
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping event stream of user {}: {}", userId, e.getMessage());
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        connections.computeIfPresent(userId, (id, current) -> {
+            List<SseEmitter> updated = current.stream().filter(e -> e != emitter).toList();
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.monthlybudget.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Makes sure a background job runs on one node at a time when several instances share the database.
+ * On PostgreSQL it takes a session-level advisory lock on a dedicated connection, which is held until the
+ * job finishes and is released by the server if the node dies. Other databases only ever back a single
+ * node (tests, local H2), so there the job simply runs.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLock {
+
+    private final DataSource dataSource;
+
+    /**
+     * Runs {@code job} unless another node holds the lock called {@code name}.
+     *
+     * @return whether the job ran
+     */
+    public boolean runExclusively(String name, Runnable job) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                job.run();
+                return true;
+            }
+            if (!call(connection, "SELECT pg_try_advisory_lock(hashtext(?))", name)) {
+                log.info("Skipping {}: another node is running it", name);
+                return false;
+            }
+            try {
+                job.run();
+                return true;
+            } finally {
+                call(connection, "SELECT pg_advisory_unlock(hashtext(?))", name);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not take cluster lock " + name, e);
+        }
+    }
+
+    private static boolean call(Connection connection, String sql, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.monthlybudget.service;
+
+/**
+ * Keeps exported text from being run as a formula when the CSV is opened in a spreadsheet: a cell starting
+ * with {@code =}, {@code +}, {@code -}, {@code @}, a tab or a carriage return gets a leading apostrophe.
+ * Text whose leading apostrophes already precede such a character gets one more, so import can take
+ * exactly one off and every value round-trips unchanged.
+ */
+final class CsvCells {
+
+    private CsvCells() {
+    }
+
+    static String guard(String text) {
+        return startsFormula(text) ? "'" + text : text;
+    }
+
+    static String unguard(String text) {
+        return text.startsWith("'") && startsFormula(text) ? text.substring(1) : text;
+    }
+
+    private static boolean startsFormula(String text) {
+        int i = 0;
+        while (i < text.length() && text.charAt(i) == '\'') {
+            i++;
+        }
+        if (i == text.length()) {
+            return false;
+        }
+        char first = text.charAt(i);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
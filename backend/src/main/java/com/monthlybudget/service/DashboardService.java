@@ -0,0 +1,103 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.DashboardSummaryResponse;
+import com.monthlybudget.dto.response.MonthlySpendingResponse;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.projection.MonthlyTotal;
+import com.monthlybudget.security.AuthHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final int TREND_MONTHS = 6;
+    private static final int RECENT_EXPENSES = 7;
+
+    private final AccountRepository accountRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final AuthHelper authHelper;
+    private final Clock clock;
+
+    @Transactional(readOnly = true)
+    public DashboardSummaryResponse getSummary(List<Long> accountIds) {
+        User user = authHelper.getCurrentUser();
+
+        List<Long> ids = resolveAccountIds(user, accountIds);
+        YearMonth currentMonth = YearMonth.now(clock);
+        DashboardSummaryResponse summary = new DashboardSummaryResponse();
+        summary.setAccountCount(ids.size());
+
+        if (ids.isEmpty()) {
+            summary.setTotalBalance(BigDecimal.ZERO);
+            summary.setCurrentMonthExpenses(BigDecimal.ZERO);
+            summary.setCurrentMonthIncome(BigDecimal.ZERO);
+            summary.setCategorySpending(List.of());
+            summary.setMonthlySpending(buildMonthlySpending(List.of(), currentMonth));
+            summary.setRecentExpenses(List.of());
+            return summary;
+        }
+
+        summary.setTotalBalance(accountRepository.sumCurrentBalanceByIdIn(ids));
+        summary.setCurrentMonthExpenses(expenseRepository.sumSpentByAccountIdInAndDateBetween(
+                ids, currentMonth.atDay(1), currentMonth.atEndOfMonth()));
+        summary.setCurrentMonthIncome(incomeRepository.sumByAccountIdInAndDateBetween(
+                ids, currentMonth.atDay(1), currentMonth.atEndOfMonth()));
+        summary.setCategorySpending(expenseRepository.sumSpentByCategory(ids));
+
+        YearMonth firstMonth = currentMonth.minusMonths(TREND_MONTHS - 1);
+        summary.setMonthlySpending(buildMonthlySpending(
+                expenseRepository.sumByMonthSince(ids, firstMonth.atDay(1)), currentMonth));
+        summary.setRecentExpenses(expenseRepository.findRecentByAccountIdIn(ids, Limit.of(RECENT_EXPENSES)));
+
+        return summary;
+    }
+
+    // Filter only ever narrows down to the user's own accounts
+    private List<Long> resolveAccountIds(User user, List<Long> accountIds) {
+        if (accountIds == null) {
+            return accountRepository.findIdsByUserId(user.getId());
+        }
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return accountRepository.findIdsByUserIdAndIdIn(user.getId(), accountIds);
+    }
+
+    private List<MonthlySpendingResponse> buildMonthlySpending(List<MonthlyTotal> totals, YearMonth currentMonth) {
+        List<MonthlySpendingResponse> months = new ArrayList<>();
+        for (int i = TREND_MONTHS - 1; i >= 0; i--) {
+            months.add(new MonthlySpendingResponse(currentMonth.minusMonths(i), BigDecimal.ZERO, BigDecimal.ZERO));
+        }
+
+        YearMonth firstMonth = months.get(0).getMonth();
+        for (MonthlyTotal total : totals) {
+            YearMonth month = YearMonth.of(total.year(), total.month());
+            int idx = (int) firstMonth.until(month, ChronoUnit.MONTHS);
+            if (idx < 0 || idx >= months.size()) {
+                continue;
+            }
+            MonthlySpendingResponse bucket = months.get(idx);
+            if (Boolean.TRUE.equals(total.isReturn())) {
+                bucket.setReturns(bucket.getReturns().add(total.total()));
+            } else {
+                bucket.setSpent(bucket.getSpent().add(total.total()));
+            }
+        }
+        return months;
+    }
+}
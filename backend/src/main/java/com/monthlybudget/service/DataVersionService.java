@@ -0,0 +1,191 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.model.SyncEntityType;
+import com.monthlybudget.model.Tombstone;
+import com.monthlybudget.repository.TombstoneRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthHelper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user counter that every write increments, so "has anything of mine changed?" is one number.
+ * The counter lives on the user row and is bumped in the writer's transaction, which keeps it exact
+ * across nodes. Reads are served from a per-node cache for at most {@code app.data-version.max-staleness-ms}
+ * and otherwise from the primary. This node's own writes evict their entry on commit; with several nodes,
+ * every bump also goes out over the {@link ChangeRelay} and evicts the entry on each node as it commits.
+ * While the relay is not listening, bumps from other nodes could go unheard, so the cache is not used.
+ */
+@Service
+public class DataVersionService {
+
+    private static final int MAX_CACHED_USERS = 100_000;
+
+    private final UserRepository userRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final AuthHelper authHelper;
+    private final ChangeRelay changeRelay;
+    private final long maxStalenessMillis;
+    private final Clock clock;
+    private final Map<Long, CachedVersion> cache = new ConcurrentHashMap<>();
+    // Bumped before every eviction; a read that started before one must not repopulate the cache
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public DataVersionService(UserRepository userRepository, TombstoneRepository tombstoneRepository,
+                              AuthHelper authHelper, ChangeRelay changeRelay,
+                              @Value("${app.data-version.max-staleness-ms:1000}") long maxStalenessMillis) {
+        this(userRepository, tombstoneRepository, authHelper, changeRelay, maxStalenessMillis, Clock.systemUTC());
+    }
+
+    DataVersionService(UserRepository userRepository, TombstoneRepository tombstoneRepository, AuthHelper authHelper,
+                       ChangeRelay changeRelay, long maxStalenessMillis, Clock clock) {
+        this.userRepository = userRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.authHelper = authHelper;
+        this.changeRelay = changeRelay;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void listenForOtherNodes() {
+        changeRelay.addVersionListener(new ChangeRelay.VersionListener() {
+            @Override
+            public void bumped(Long userId) {
+                evict(userId);
+            }
+
+            @Override
+            public void bumpedAll() {
+                evictAll();
+            }
+        });
+    }
+
+    /**
+     * Marks the user's data as changed and returns the new version to stamp on every row the write touches.
+     * Call first thing inside the write's transaction: the increment locks the user row until commit, so
+     * concurrent writes for one user are numbered in commit order and delta sync never skips one.
+     */
+    public long bump(Long userId) {
+        userRepository.incrementDataVersion(userId);
+        if (changeRelay.isActive()) {
+            changeRelay.sendVersionBump(userId);
+        }
+        afterCommit(() -> evict(userId));
+        return userRepository.findDataVersionById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+    }
+
+    /**
+     * Leaves a tombstone so delta sync can report the deletion. {@code version} comes from {@link #bump}.
+     */
+    public void recordDeletion(Long userId, SyncEntityType type, Long entityId, long version) {
+        tombstoneRepository.save(Tombstone.builder()
+                .user(userRepository.getReferenceById(userId))
+                .entityType(type)
+                .entityId(entityId)
+                .changeVersion(version)
+                .build());
+    }
+
+    /**
+     * Marks the owners of the given accounts as changed, for writes that are not made on a user's behalf.
+     */
+    public void bumpForAccounts(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        userRepository.incrementDataVersionForAccounts(accountIds);
+        if (changeRelay.isActive()) {
+            changeRelay.sendVersionBumpForAll();
+        }
+        afterCommit(this::evictAll);
+    }
+
+    public long current(Long userId) {
+        long now = clock.millis();
+        CachedVersion cached = cache.get(userId);
+        if (cached != null && now - cached.readAt() < maxStalenessMillis && hearsAllBumps()) {
+            return cached.version();
+        }
+        long evictionsBefore = evictions.get();
+        long version = userRepository.findDataVersionOnPrimaryById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+        if (cache.size() >= MAX_CACHED_USERS) {
+            cache.clear();
+        }
+        // A commit evicted entries while we were reading; our value may predate it, so leave it out
+        cache.compute(userId, (id, entry) ->
+                evictions.get() == evictionsBefore ? new CachedVersion(version, now) : entry);
+        return version;
+    }
+
+    /**
+     * Weak ETag for the current user's data. The user id is part of it so two users at the same
+     * version never share a cached response.
+     */
+    public String etagForCurrentUser() {
+        Long userId = authHelper.getCurrentUserId();
+        return etag(userId, current(userId));
+    }
+
+    /**
+     * Same as {@link #etagForCurrentUser} but always read from the database, in the caller's transaction.
+     * Read it in the transaction that loads the body, before the body: the body then comes from the same
+     * database and is never older than the ETag it is sent with, even on a lagging replica. For the same
+     * reason it is never cached: a replica's version may be older than one already cached from the primary.
+     */
+    public String freshEtagForCurrentUser() {
+        Long userId = authHelper.getCurrentUserId();
+        return etag(userId, userRepository.findDataVersionById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId)));
+    }
+
+    // A single node hears all of its own bumps; several nodes only while the relay is connected
+    private boolean hearsAllBumps() {
+        return !changeRelay.isActive() || changeRelay.isListening();
+    }
+
+    private void evict(Long userId) {
+        evictions.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    private void evictAll() {
+        evictions.incrementAndGet();
+        cache.clear();
+    }
+
+    private static String etag(Long userId, long version) {
+        return "W/\"" + userId + "-" + version + "\"";
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record CachedVersion(long version, long readAt) {
+    }
+}
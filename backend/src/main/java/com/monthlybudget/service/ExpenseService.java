@@ -1,21 +1,25 @@
 package com.monthlybudget.service;
 
 import com.monthlybudget.dto.request.ExpenseRequest;
+import com.monthlybudget.dto.response.CursorPageResponse;
 import com.monthlybudget.dto.response.ExpenseResponse;
 import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.ExpenseMapper;
-import com.monthlybudget.model.Account;
 import com.monthlybudget.model.Category;
+import com.monthlybudget.model.ChangeAction;
 import com.monthlybudget.model.Expense;
+import com.monthlybudget.model.SyncEntityType;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.AccountRepository;
 import com.monthlybudget.repository.CategoryRepository;
 import com.monthlybudget.repository.ExpenseRepository;
 import com.monthlybudget.security.AuthHelper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Service
@@ -27,108 +31,167 @@ public class ExpenseService {
     private final CategoryRepository categoryRepository;
     private final ExpenseMapper expenseMapper;
     private final AuthHelper authHelper;
-
+    private final BalanceAdjuster balanceAdjuster;
+    private final MonthlyRollupService monthlyRollupService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final OptimisticRetry optimisticRetry;
+    private final DataVersionService dataVersionService;
+    private final ChangeStreamService changeStreamService;
+
+    @Transactional(readOnly = true)
     public List<ExpenseResponse> getAllForCurrentUser() {
         User user = authHelper.getCurrentUser();
-        return expenseMapper.toResponseList(
-                expenseRepository.findByAccountUserIdOrderByDateDescIdDesc(user.getId())
-        );
+        return expenseRepository.findResponsesByUserId(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ExpenseResponse> getPageForCurrentUser(String cursor, int limit) {
+        User user = authHelper.getCurrentUser();
+        Limit fetchLimit = Limit.of(limit + 1);
+
+        List<ExpenseResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = expenseRepository.findFirstPage(user.getId(), fetchLimit);
+        } else {
+            TransactionCursor after = TransactionCursor.decode(cursor);
+            rows = expenseRepository.findPageAfter(user.getId(), after.date(), after.id(), fetchLimit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            ExpenseResponse last = rows.get(limit - 1);
+            nextCursor = new TransactionCursor(last.getDate(), last.getId()).encode();
+        }
+
+        return new CursorPageResponse<>(rows, nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public ExpenseResponse getById(Long id) {
-        Expense expense = findExpenseOwned(id);
+        Expense expense = findExpenseOwned(id, authHelper.getCurrentUser());
         return expenseMapper.toResponse(expense);
     }
 
-    @Transactional
     public ExpenseResponse create(ExpenseRequest request) {
-        User user = authHelper.getCurrentUser();
+        return optimisticRetry.run(() -> createOnce(request));
+    }
 
-        Account account = accountRepository.findById(request.getAccountId())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", request.getAccountId()));
-        if (!account.getUser().getId().equals(user.getId())) {
-            throw new ResourceNotFoundException("Account", request.getAccountId());
-        }
+    private ExpenseResponse createOnce(ExpenseRequest request) {
+        User user = authHelper.getCurrentUser();
+        long version = dataVersionService.bump(user.getId());
+        boolean isReturn = request.getIsReturn() != null && request.getIsReturn();
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
-        if (!category.getUser().getId().equals(user.getId())) {
-            throw new ResourceNotFoundException("Category", request.getCategoryId());
-        }
+        balanceAdjuster.adjust(request.getAccountId(), user.getId(), signedAmount(request.getAmount(), isReturn));
+        Category category = findCategoryOwned(request.getCategoryId(), user);
 
         Expense expense = Expense.builder()
                 .amount(request.getAmount())
                 .description(request.getDescription())
                 .date(request.getDate())
-                .isReturn(request.getIsReturn() != null && request.getIsReturn())
-                .account(account)
+                .isReturn(isReturn)
+                .account(accountRepository.getReferenceById(request.getAccountId()))
+                .user(user)
                 .category(category)
+                .changeVersion(version)
                 .build();
 
-        // Aktualizacja salda konta
-        if (Boolean.TRUE.equals(expense.getIsReturn())) {
-            account.setCurrentBalance(account.getCurrentBalance().add(request.getAmount()));
-        } else {
-            account.setCurrentBalance(account.getCurrentBalance().subtract(request.getAmount()));
-        }
-        accountRepository.save(account);
+        monthlyRollupService.apply(user.getId(),
+                RollupKey.of(request.getAccountId(), category.getId(), request.getDate()),
+                RollupDelta.expense(request.getAmount(), isReturn));
+        balanceSnapshotService.shift(request.getAccountId(), request.getDate(),
+                signedAmount(request.getAmount(), isReturn));
 
-        return expenseMapper.toResponse(expenseRepository.save(expense));
+        Expense saved = expenseRepository.save(expense);
+        changeStreamService.publish(user.getId(), SyncEntityType.EXPENSE, ChangeAction.CREATED,
+                saved.getId(), version, List.of(request.getAccountId()));
+        return expenseMapper.toResponse(saved);
     }
 
-    @Transactional
     public ExpenseResponse update(Long id, ExpenseRequest request) {
-        Expense expense = findExpenseOwned(id);
-        Account oldAccount = expense.getAccount();
-
-        if (Boolean.TRUE.equals(expense.getIsReturn())) {
-            oldAccount.setCurrentBalance(oldAccount.getCurrentBalance().subtract(expense.getAmount()));
-        } else {
-            oldAccount.setCurrentBalance(oldAccount.getCurrentBalance().add(expense.getAmount()));
-        }
-        accountRepository.save(oldAccount);
-        Account newAccount = accountRepository.findById(request.getAccountId())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", request.getAccountId()));
+        return optimisticRetry.run(() -> updateOnce(id, request));
+    }
 
+    private ExpenseResponse updateOnce(Long id, ExpenseRequest request) {
+        User user = authHelper.getCurrentUser();
+        // Take the user's lock before reading: Expense has no @Version, so a concurrent edit must be seen
+        // committed here or both would reverse the same old amount out of the balance
+        long version = dataVersionService.bump(user.getId());
+        Expense expense = findExpenseOwned(id, user);
+        Long oldAccountId = expense.getAccount().getId();
         boolean newIsReturn = request.getIsReturn() != null && request.getIsReturn();
-        if (newIsReturn) {
-            newAccount.setCurrentBalance(newAccount.getCurrentBalance().add(request.getAmount()));
-        } else {
-            newAccount.setCurrentBalance(newAccount.getCurrentBalance().subtract(request.getAmount()));
-        }
+
+        balanceAdjuster.move(
+                expense.getAccount().getId(), signedAmount(expense.getAmount(), expense.getIsReturn()),
+                request.getAccountId(), signedAmount(request.getAmount(), newIsReturn),
+                user.getId());
+
+        balanceSnapshotService.move(
+                expense.getAccount().getId(), expense.getDate(), signedAmount(expense.getAmount(), expense.getIsReturn()),
+                request.getAccountId(), request.getDate(), signedAmount(request.getAmount(), newIsReturn));
+
+        RollupKey oldRollupKey = rollupKey(expense);
+        RollupDelta oldRollupDelta = RollupDelta.expense(expense.getAmount(), expense.getIsReturn());
 
         expense.setAmount(request.getAmount());
         expense.setDescription(request.getDescription());
         expense.setDate(request.getDate());
         expense.setIsReturn(newIsReturn);
-        expense.setAccount(newAccount);
-
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
-        expense.setCategory(category);
-
-        accountRepository.save(newAccount);
-        return expenseMapper.toResponse(expenseRepository.save(expense));
+        expense.setAccount(accountRepository.getReferenceById(request.getAccountId()));
+        expense.setCategory(findCategoryOwned(request.getCategoryId(), user));
+        expense.setChangeVersion(version);
+
+        monthlyRollupService.move(user.getId(), oldRollupKey, oldRollupDelta,
+                RollupKey.of(request.getAccountId(), expense.getCategory().getId(), request.getDate()),
+                RollupDelta.expense(request.getAmount(), newIsReturn));
+
+        Expense saved = expenseRepository.save(expense);
+        changeStreamService.publish(user.getId(), SyncEntityType.EXPENSE, ChangeAction.UPDATED,
+                id, version, List.of(oldAccountId, request.getAccountId()));
+        return expenseMapper.toResponse(saved);
     }
 
-    @Transactional
     public void delete(Long id) {
-        Expense expense = findExpenseOwned(id);
-        Account account = expense.getAccount();
+        optimisticRetry.run(() -> deleteOnce(id));
+    }
 
-        // Cofnij wpływ na saldo
-        if (Boolean.TRUE.equals(expense.getIsReturn())) {
-            account.setCurrentBalance(account.getCurrentBalance().subtract(expense.getAmount()));
-        } else {
-            account.setCurrentBalance(account.getCurrentBalance().add(expense.getAmount()));
-        }
+    private void deleteOnce(Long id) {
+        User user = authHelper.getCurrentUser();
+        long version = dataVersionService.bump(user.getId());
+        Expense expense = findExpenseOwned(id, user);
 
-        accountRepository.save(account);
+        // Cofnij wpływ na saldo
+        balanceAdjuster.adjust(expense.getAccount().getId(), user.getId(),
+                signedAmount(expense.getAmount(), expense.getIsReturn()).negate());
+        monthlyRollupService.apply(user.getId(), rollupKey(expense),
+                RollupDelta.expense(expense.getAmount(), expense.getIsReturn()).negate());
+        balanceSnapshotService.shift(expense.getAccount().getId(), expense.getDate(),
+                signedAmount(expense.getAmount(), expense.getIsReturn()).negate());
+        dataVersionService.recordDeletion(user.getId(), SyncEntityType.EXPENSE, id, version);
         expenseRepository.delete(expense);
+        changeStreamService.publish(user.getId(), SyncEntityType.EXPENSE, ChangeAction.DELETED,
+                id, version, List.of(expense.getAccount().getId()));
     }
 
-    private Expense findExpenseOwned(Long id) {
-        User user = authHelper.getCurrentUser();
+    // Returns add to the balance, regular expenses take from it
+    private BigDecimal signedAmount(BigDecimal amount, Boolean isReturn) {
+        return Boolean.TRUE.equals(isReturn) ? amount : amount.negate();
+    }
+
+    private RollupKey rollupKey(Expense expense) {
+        return RollupKey.of(expense.getAccount().getId(), expense.getCategory().getId(), expense.getDate());
+    }
+
+    private Category findCategoryOwned(Long categoryId, User user) {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", categoryId));
+        if (!category.getUser().getId().equals(user.getId())) {
+            throw new ResourceNotFoundException("Category", categoryId);
+        }
+        return category;
+    }
+
+    private Expense findExpenseOwned(Long id, User user) {
         Expense expense = expenseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Expense", id));
         if (!expense.getAccount().getUser().getId().equals(user.getId())) {
@@ -0,0 +1,135 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.ExpenseResponse;
+import com.monthlybudget.dto.response.IncomeResponse;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.security.AuthHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's expenses and incomes straight from database cursors to an output stream,
+ * one row at a time, so memory use does not depend on how many rows are exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final String[] COLUMNS =
+            {"type", "id", "date", "amount", "isReturn", "description", "account", "category"};
+
+    /**
+     * Each row ends its own line, the last one included, so no separator goes between root values. The
+     * generator must leave the response stream open.
+     */
+    private static final ObjectWriter NDJSON = new JsonMapper().writer()
+            .withRootValueSeparator((String) null)
+            .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final AuthHelper authHelper;
+
+    @Transactional(readOnly = true)
+    public void exportTransactions(ExportFormat format, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        User user = authHelper.getCurrentUser();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+            writeRows(user, from, to, (type, id, date, amount, isReturn, description, account, category) ->
+                    writeCsvRow(writer, type, id, date, amount, isReturn, description, account, category));
+        } else {
+            try (JsonGenerator json = NDJSON.createGenerator(writer)) {
+                writeRows(user, from, to, (type, id, date, amount, isReturn, description, account, category) ->
+                        writeJsonRow(json, type, id, date, amount, isReturn, description, account, category));
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeRows(User user, LocalDate from, LocalDate to, RowWriter rows) {
+        try (Stream<ExpenseResponse> expenses = expenseRepository.streamForExport(user.getId(), from, to)) {
+            expenses.forEach(e -> rows.write("expense", e.getId(), e.getDate(), e.getAmount(),
+                    e.getIsReturn(), e.getDescription(), e.getAccountName(), e.getCategoryName()));
+        }
+        try (Stream<IncomeResponse> incomes = incomeRepository.streamForExport(user.getId(), from, to)) {
+            incomes.forEach(i -> rows.write("income", i.getId(), i.getDate(), i.getAmount(),
+                    false, i.getDescription(), i.getAccountName(), i.getCategoryName()));
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, String type, Long id, LocalDate date, BigDecimal amount,
+                                    Boolean isReturn, String description, String account, String category) {
+        Object[] values = {type, id, date, amount, isReturn, description, account, category};
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csv(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJsonRow(JsonGenerator json, String type, Long id, LocalDate date, BigDecimal amount,
+                                     Boolean isReturn, String description, String account, String category) {
+        json.writeStartObject();
+        json.writeStringProperty("type", type);
+        json.writeNumberProperty("id", id);
+        json.writeStringProperty("date", date == null ? null : date.toString());
+        json.writeNumberProperty("amount", amount);
+        json.writeName("isReturn");
+        if (isReturn == null) {
+            json.writeNull();
+        } else {
+            json.writeBoolean(isReturn);
+        }
+        json.writeStringProperty("description", description);
+        json.writeStringProperty("account", account);
+        json.writeStringProperty("category", category);
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof String string ? CsvCells.guard(string) : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(String type, Long id, LocalDate date, BigDecimal amount, Boolean isReturn,
+                   String description, String account, String category);
+    }
+}
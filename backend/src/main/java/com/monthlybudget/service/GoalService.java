@@ -2,16 +2,20 @@ package com.monthlybudget.service;
 
 import com.monthlybudget.dto.request.GoalRequest;
 import com.monthlybudget.dto.response.GoalResponse;
+import com.monthlybudget.exception.ConflictException;
 import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.GoalMapper;
 import com.monthlybudget.model.Category;
+import com.monthlybudget.model.ChangeAction;
 import com.monthlybudget.model.Goal;
 import com.monthlybudget.model.User;
+import com.monthlybudget.model.SyncEntityType;
 import com.monthlybudget.repository.CategoryRepository;
 import com.monthlybudget.repository.GoalRepository;
 import com.monthlybudget.security.AuthHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -24,24 +28,33 @@ public class GoalService {
     private final CategoryRepository categoryRepository;
     private final GoalMapper goalMapper;
     private final AuthHelper authHelper;
+    private final OptimisticRetry optimisticRetry;
+    private final DataVersionService dataVersionService;
+    private final ChangeStreamService changeStreamService;
 
+    @Transactional(readOnly = true)
     public List<GoalResponse> getAllForCurrentUser() {
         User user = authHelper.getCurrentUser();
         return goalMapper.toResponseList(goalRepository.findByUserId(user.getId()));
     }
 
+    @Transactional(readOnly = true)
     public GoalResponse getById(Long id) {
         Goal goal = findGoalOwned(id);
         return goalMapper.toResponse(goal);
     }
 
     public GoalResponse create(GoalRequest request) {
+        return optimisticRetry.run(() -> createOnce(request));
+    }
+
+    private GoalResponse createOnce(GoalRequest request) {
         User user = authHelper.getCurrentUser();
+        long version = dataVersionService.bump(user.getId());
 
         Category category = null;
         if (request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
+            category = findCategoryOwned(request.getCategoryId(), user);
         }
 
         Goal goal = Goal.builder()
@@ -51,21 +64,31 @@ public class GoalService {
                 .deadline(request.getDeadline())
                 .user(user)
                 .category(category)
+                .changeVersion(version)
                 .build();
 
-        return goalMapper.toResponse(goalRepository.save(goal));
+        Goal saved = goalRepository.save(goal);
+        changeStreamService.publish(user.getId(), SyncEntityType.GOAL, ChangeAction.CREATED,
+                saved.getId(), version, List.of());
+        return goalMapper.toResponse(saved);
     }
 
     public GoalResponse update(Long id, GoalRequest request) {
+        return optimisticRetry.run(() -> updateOnce(id, request));
+    }
+
+    private GoalResponse updateOnce(Long id, GoalRequest request) {
         Goal goal = findGoalOwned(id);
+        // Checked on every attempt: a retry after losing a race sees the winner's version and stops here
+        if (request.getVersion() != null && !request.getVersion().equals(goal.getVersion())) {
+            throw new ConflictException("Goal " + id + " was changed by someone else; reload it and try again");
+        }
         goal.setName(request.getName());
         goal.setTargetAmount(request.getTargetAmount());
         goal.setDeadline(request.getDeadline());
 
         if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
-            goal.setCategory(category);
+            goal.setCategory(findCategoryOwned(request.getCategoryId(), goal.getUser()));
         } else {
             goal.setCategory(null);
         }
@@ -74,12 +97,34 @@ public class GoalService {
             goal.setCurrentAmount(request.getCurrentAmount());
         }
 
-        return goalMapper.toResponse(goalRepository.save(goal));
+        Long userId = goal.getUser().getId();
+        long version = dataVersionService.bump(userId);
+        goal.setChangeVersion(version);
+        Goal saved = goalRepository.save(goal);
+        changeStreamService.publish(userId, SyncEntityType.GOAL, ChangeAction.UPDATED, id, version, List.of());
+        return goalMapper.toResponse(saved);
     }
 
     public void delete(Long id) {
+        optimisticRetry.run(() -> deleteOnce(id));
+    }
+
+    private void deleteOnce(Long id) {
         Goal goal = findGoalOwned(id);
+        Long userId = goal.getUser().getId();
+        long version = dataVersionService.bump(userId);
+        dataVersionService.recordDeletion(userId, SyncEntityType.GOAL, id, version);
         goalRepository.delete(goal);
+        changeStreamService.publish(userId, SyncEntityType.GOAL, ChangeAction.DELETED, id, version, List.of());
+    }
+
+    private Category findCategoryOwned(Long categoryId, User user) {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", categoryId));
+        if (!category.getUser().getId().equals(user.getId())) {
+            throw new ResourceNotFoundException("Category", categoryId);
+        }
+        return category;
     }
 
     private Goal findGoalOwned(Long id) {
@@ -0,0 +1,269 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.ImportResultResponse;
+import com.monthlybudget.dto.response.ImportRowErrorResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.Category;
+import com.monthlybudget.model.Expense;
+import com.monthlybudget.model.Income;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.security.AuthHelper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Imports expenses and incomes from a CSV file in a single transaction.
+ * Accounts and categories are resolved by name once per file, rows are persisted in chunks that
+ * Hibernate sends as JDBC batches, and each account's balance is adjusted once with the net of all
+ * its imported rows. Monthly rollups and back-dated balance snapshots likewise get one update per
+ * touched bucket.
+ * Invalid rows are skipped and reported; valid rows are still imported.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("0.01");
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("99999999.99");
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final BalanceAdjuster balanceAdjuster;
+    private final MonthlyRollupService monthlyRollupService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final EntityManager entityManager;
+    private final AuthHelper authHelper;
+    private final DataVersionService dataVersionService;
+
+    @Transactional
+    public ImportResultResponse importTransactions(InputStream in) throws IOException {
+        Long userId = authHelper.getCurrentUserId();
+        long version = dataVersionService.bump(userId);
+        User owner = entityManager.getReference(User.class, userId);
+        Map<String, Long> accounts = indexByName(accountRepository.findByUserId(userId), Account::getName, Account::getId);
+        Map<String, Long> categories = indexByName(categoryRepository.findByUserId(userId), Category::getName, Category::getId);
+
+        CsvReader csv = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024));
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new BadRequestException("CSV file is empty");
+        }
+        Columns columns = Columns.of(header);
+
+        List<Expense> expenseBatch = new ArrayList<>(BATCH_SIZE);
+        List<Income> incomeBatch = new ArrayList<>(BATCH_SIZE);
+        Map<Long, BigDecimal> balanceDeltas = new HashMap<>();
+        Map<RollupKey, RollupDelta> rollupDeltas = new HashMap<>();
+        Map<RollupKey, BigDecimal> snapshotDeltas = new HashMap<>();
+        List<ImportRowErrorResponse> errors = new ArrayList<>();
+        int imported = 0;
+        int rejected = 0;
+
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            try {
+                String type = columns.get(record, "type").toLowerCase(Locale.ROOT);
+                LocalDate date = parseDate(columns.get(record, "date"));
+                BigDecimal amount = parseAmount(columns.get(record, "amount"));
+                // Text written by our own export may carry a formula guard
+                String description = parseDescription(CsvCells.unguard(columns.get(record, "description")));
+                Long accountId = resolve(accounts, CsvCells.unguard(columns.get(record, "account")), "Account");
+                String categoryName = CsvCells.unguard(columns.get(record, "category"));
+
+                switch (type) {
+                    case "expense" -> {
+                        if (categoryName.isEmpty()) {
+                            throw new BadRequestException("Category is required for expenses");
+                        }
+                        Long categoryId = resolve(categories, categoryName, "Category");
+                        boolean isReturn = Boolean.parseBoolean(columns.get(record, "isreturn"));
+                        expenseBatch.add(Expense.builder()
+                                .amount(amount)
+                                .description(description)
+                                .date(date)
+                                .isReturn(isReturn)
+                                .account(entityManager.getReference(Account.class, accountId))
+                                .user(owner)
+                                .category(entityManager.getReference(Category.class, categoryId))
+                                .changeVersion(version)
+                                .build());
+                        balanceDeltas.merge(accountId, isReturn ? amount : amount.negate(), BigDecimal::add);
+                        rollupDeltas.merge(RollupKey.of(accountId, categoryId, date),
+                                RollupDelta.expense(amount, isReturn), RollupDelta::plus);
+                        snapshotDeltas.merge(RollupKey.of(accountId, null, date),
+                                isReturn ? amount : amount.negate(), BigDecimal::add);
+                    }
+                    case "income" -> {
+                        Long categoryId = categoryName.isEmpty() ? null : resolve(categories, categoryName, "Category");
+                        incomeBatch.add(Income.builder()
+                                .amount(amount)
+                                .description(description)
+                                .date(date)
+                                .account(entityManager.getReference(Account.class, accountId))
+                                .user(owner)
+                                .category(categoryId != null ? entityManager.getReference(Category.class, categoryId) : null)
+                                .changeVersion(version)
+                                .build());
+                        balanceDeltas.merge(accountId, amount, BigDecimal::add);
+                        rollupDeltas.merge(RollupKey.of(accountId, categoryId, date),
+                                RollupDelta.income(amount), RollupDelta::plus);
+                        snapshotDeltas.merge(RollupKey.of(accountId, null, date), amount, BigDecimal::add);
+                    }
+                    default -> throw new BadRequestException("Type must be 'expense' or 'income'");
+                }
+                imported++;
+            } catch (BadRequestException e) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ImportRowErrorResponse(csv.recordLine(), e.getMessage()));
+                }
+            }
+
+            if (expenseBatch.size() + incomeBatch.size() >= BATCH_SIZE) {
+                flush(expenseBatch, incomeBatch);
+            }
+        }
+        flush(expenseBatch, incomeBatch);
+
+        balanceDeltas.forEach((accountId, delta) -> {
+            if (delta.signum() != 0) {
+                balanceAdjuster.adjust(accountId, userId, delta);
+            }
+        });
+        rollupDeltas.forEach((key, delta) -> monthlyRollupService.apply(userId, key, delta));
+        // Keyed by account and month only: every date in a month is covered by the same snapshots
+        snapshotDeltas.forEach((key, delta) -> balanceSnapshotService.shift(key.accountId(), key.monthStart(), delta));
+
+        return new ImportResultResponse(imported, rejected, errors);
+    }
+
+    // Writes the pending rows and detaches them so the persistence context stays small on large files
+    private void flush(List<Expense> expenseBatch, List<Income> incomeBatch) {
+        if (expenseBatch.isEmpty() && incomeBatch.isEmpty()) {
+            return;
+        }
+        expenseRepository.saveAll(expenseBatch);
+        incomeRepository.saveAll(incomeBatch);
+        entityManager.flush();
+        entityManager.clear();
+        expenseBatch.clear();
+        incomeBatch.clear();
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid date '" + value + "', expected yyyy-MM-dd");
+        }
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(value).setScale(2, RoundingMode.UNNECESSARY);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid amount '" + value + "'");
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Amount must have at most 2 decimal places");
+        }
+        if (amount.compareTo(MIN_AMOUNT) < 0 || amount.compareTo(MAX_AMOUNT) > 0) {
+            throw new BadRequestException("Amount must be between 0.01 and " + MAX_AMOUNT);
+        }
+        return amount;
+    }
+
+    private static String parseDescription(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new BadRequestException("Description must be at most " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static Long resolve(Map<String, Long> idsByName, String name, String resource) {
+        if (name.isEmpty()) {
+            throw new BadRequestException(resource + " is required");
+        }
+        String key = name.toLowerCase(Locale.ROOT);
+        if (!idsByName.containsKey(key)) {
+            throw new BadRequestException(resource + " '" + name + "' not found");
+        }
+        Long id = idsByName.get(key);
+        if (id == null) {
+            throw new BadRequestException(resource + " name '" + name + "' is ambiguous");
+        }
+        return id;
+    }
+
+    // Duplicate names map to null so rows referring to them are rejected instead of guessed
+    private static <T> Map<String, Long> indexByName(List<T> items,
+                                                     Function<T, String> name,
+                                                     Function<T, Long> id) {
+        Map<String, Long> index = new HashMap<>();
+        for (T item : items) {
+            String key = name.apply(item).trim().toLowerCase(Locale.ROOT);
+            index.put(key, index.containsKey(key) ? null : id.apply(item));
+        }
+        return index;
+    }
+
+    /**
+     * Header-name to column-position lookup; columns absent from the file read as empty strings.
+     */
+    private record Columns(Map<String, Integer> positions) {
+
+        private static final List<String> REQUIRED = List.of("type", "date", "amount", "account");
+
+        static Columns of(List<String> header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                positions.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            List<String> missing = REQUIRED.stream().filter(c -> !positions.containsKey(c)).toList();
+            if (!missing.isEmpty()) {
+                throw new BadRequestException("CSV header is missing column(s): " + String.join(", ", missing));
+            }
+            return new Columns(positions);
+        }
+
+        String get(List<String> record, String column) {
+            Integer position = positions.get(column);
+            if (position == null || position >= record.size()) {
+                return "";
+            }
+            return record.get(position).trim();
+        }
+    }
+}
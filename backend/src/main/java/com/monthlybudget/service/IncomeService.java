@@ -1,18 +1,21 @@
 package com.monthlybudget.service;
 
 import com.monthlybudget.dto.request.IncomeRequest;
+import com.monthlybudget.dto.response.CursorPageResponse;
 import com.monthlybudget.dto.response.IncomeResponse;
 import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.IncomeMapper;
-import com.monthlybudget.model.Account;
 import com.monthlybudget.model.Category;
+import com.monthlybudget.model.ChangeAction;
 import com.monthlybudget.model.Income;
+import com.monthlybudget.model.SyncEntityType;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.AccountRepository;
 import com.monthlybudget.repository.CategoryRepository;
 import com.monthlybudget.repository.IncomeRepository;
 import com.monthlybudget.security.AuthHelper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,99 +30,157 @@ public class IncomeService {
     private final CategoryRepository categoryRepository;
     private final IncomeMapper incomeMapper;
     private final AuthHelper authHelper;
-
+    private final BalanceAdjuster balanceAdjuster;
+    private final MonthlyRollupService monthlyRollupService;
+    private final BalanceSnapshotService balanceSnapshotService;
+    private final OptimisticRetry optimisticRetry;
+    private final DataVersionService dataVersionService;
+    private final ChangeStreamService changeStreamService;
+
+    @Transactional(readOnly = true)
     public List<IncomeResponse> getAllForCurrentUser() {
         User user = authHelper.getCurrentUser();
-        return incomeMapper.toResponseList(
-                incomeRepository.findByAccountUserIdOrderByDateDescIdDesc(user.getId())
-        );
+        return incomeRepository.findResponsesByUserId(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<IncomeResponse> getPageForCurrentUser(String cursor, int limit) {
+        User user = authHelper.getCurrentUser();
+        Limit fetchLimit = Limit.of(limit + 1);
+
+        List<IncomeResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = incomeRepository.findFirstPage(user.getId(), fetchLimit);
+        } else {
+            TransactionCursor after = TransactionCursor.decode(cursor);
+            rows = incomeRepository.findPageAfter(user.getId(), after.date(), after.id(), fetchLimit);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            IncomeResponse last = rows.get(limit - 1);
+            nextCursor = new TransactionCursor(last.getDate(), last.getId()).encode();
+        }
+
+        return new CursorPageResponse<>(rows, nextCursor);
     }
 
+    @Transactional(readOnly = true)
     public IncomeResponse getById(Long id) {
-        Income income = findIncomeOwned(id);
+        Income income = findIncomeOwned(id, authHelper.getCurrentUser());
         return incomeMapper.toResponse(income);
     }
 
-    @Transactional
     public IncomeResponse create(IncomeRequest request) {
-        User user = authHelper.getCurrentUser();
+        return optimisticRetry.run(() -> createOnce(request));
+    }
 
-        Account account = accountRepository.findById(request.getAccountId())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", request.getAccountId()));
-        if (!account.getUser().getId().equals(user.getId())) {
-            throw new ResourceNotFoundException("Account", request.getAccountId());
-        }
+    private IncomeResponse createOnce(IncomeRequest request) {
+        User user = authHelper.getCurrentUser();
+        long version = dataVersionService.bump(user.getId());
 
-        Category category = null;
-        if (request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
-            if (!category.getUser().getId().equals(user.getId())) {
-                throw new ResourceNotFoundException("Category", request.getCategoryId());
-            }
-        }
+        balanceAdjuster.adjust(request.getAccountId(), user.getId(), request.getAmount());
+        Category category = findCategoryOwned(request.getCategoryId(), user);
 
         Income income = Income.builder()
                 .amount(request.getAmount())
                 .description(request.getDescription())
                 .date(request.getDate())
-                .account(account)
+                .account(accountRepository.getReferenceById(request.getAccountId()))
+                .user(user)
                 .category(category)
+                .changeVersion(version)
                 .build();
 
-        account.setCurrentBalance(account.getCurrentBalance().add(request.getAmount()));
-        accountRepository.save(account);
+        monthlyRollupService.apply(user.getId(),
+                RollupKey.of(request.getAccountId(), request.getCategoryId(), request.getDate()),
+                RollupDelta.income(request.getAmount()));
+        balanceSnapshotService.shift(request.getAccountId(), request.getDate(), request.getAmount());
 
-        return incomeMapper.toResponse(incomeRepository.save(income));
+        Income saved = incomeRepository.save(income);
+        changeStreamService.publish(user.getId(), SyncEntityType.INCOME, ChangeAction.CREATED,
+                saved.getId(), version, List.of(request.getAccountId()));
+        return incomeMapper.toResponse(saved);
     }
 
-    @Transactional
     public IncomeResponse update(Long id, IncomeRequest request) {
+        return optimisticRetry.run(() -> updateOnce(id, request));
+    }
+
+    private IncomeResponse updateOnce(Long id, IncomeRequest request) {
         User user = authHelper.getCurrentUser();
-        Income income = findIncomeOwned(id);
-        Account oldAccount = income.getAccount();
+        // Take the user's lock before reading: Income has no @Version, so a concurrent edit must be seen
+        // committed here or both would reverse the same old amount out of the balance
+        long version = dataVersionService.bump(user.getId());
+        Income income = findIncomeOwned(id, user);
+        Long oldAccountId = income.getAccount().getId();
 
-        oldAccount.setCurrentBalance(oldAccount.getCurrentBalance().subtract(income.getAmount()));
-        accountRepository.save(oldAccount);
+        balanceAdjuster.move(
+                income.getAccount().getId(), income.getAmount(),
+                request.getAccountId(), request.getAmount(),
+                user.getId());
 
-        Account newAccount = accountRepository.findById(request.getAccountId())
-                .orElseThrow(() -> new ResourceNotFoundException("Account", request.getAccountId()));
-        if (!newAccount.getUser().getId().equals(user.getId())) {
-            throw new ResourceNotFoundException("Account", request.getAccountId());
-        }
+        balanceSnapshotService.move(
+                income.getAccount().getId(), income.getDate(), income.getAmount(),
+                request.getAccountId(), request.getDate(), request.getAmount());
 
-        newAccount.setCurrentBalance(newAccount.getCurrentBalance().add(request.getAmount()));
-        accountRepository.save(newAccount);
+        RollupKey oldRollupKey = rollupKey(income);
+        RollupDelta oldRollupDelta = RollupDelta.income(income.getAmount());
 
         income.setAmount(request.getAmount());
         income.setDescription(request.getDescription());
         income.setDate(request.getDate());
-        income.setAccount(newAccount);
-
-        if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
-            income.setCategory(category);
-        } else {
-            income.setCategory(null);
-        }
-
-        return incomeMapper.toResponse(incomeRepository.save(income));
+        income.setAccount(accountRepository.getReferenceById(request.getAccountId()));
+        income.setCategory(findCategoryOwned(request.getCategoryId(), user));
+        income.setChangeVersion(version);
+
+        monthlyRollupService.move(user.getId(), oldRollupKey, oldRollupDelta,
+                RollupKey.of(request.getAccountId(), request.getCategoryId(), request.getDate()),
+                RollupDelta.income(request.getAmount()));
+
+        Income saved = incomeRepository.save(income);
+        changeStreamService.publish(user.getId(), SyncEntityType.INCOME, ChangeAction.UPDATED,
+                id, version, List.of(oldAccountId, request.getAccountId()));
+        return incomeMapper.toResponse(saved);
     }
 
-    @Transactional
     public void delete(Long id) {
-        Income income = findIncomeOwned(id);
-        Account account = income.getAccount();
+        optimisticRetry.run(() -> deleteOnce(id));
+    }
 
-        account.setCurrentBalance(account.getCurrentBalance().subtract(income.getAmount()));
+    private void deleteOnce(Long id) {
+        User user = authHelper.getCurrentUser();
+        long version = dataVersionService.bump(user.getId());
+        Income income = findIncomeOwned(id, user);
 
-        accountRepository.save(account);
+        balanceAdjuster.adjust(income.getAccount().getId(), user.getId(), income.getAmount().negate());
+        monthlyRollupService.apply(user.getId(), rollupKey(income), RollupDelta.income(income.getAmount()).negate());
+        balanceSnapshotService.shift(income.getAccount().getId(), income.getDate(), income.getAmount().negate());
+        dataVersionService.recordDeletion(user.getId(), SyncEntityType.INCOME, id, version);
         incomeRepository.delete(income);
+        changeStreamService.publish(user.getId(), SyncEntityType.INCOME, ChangeAction.DELETED,
+                id, version, List.of(income.getAccount().getId()));
     }
 
-    private Income findIncomeOwned(Long id) {
-        User user = authHelper.getCurrentUser();
+    private RollupKey rollupKey(Income income) {
+        Long categoryId = income.getCategory() != null ? income.getCategory().getId() : null;
+        return RollupKey.of(income.getAccount().getId(), categoryId, income.getDate());
+    }
+
+    private Category findCategoryOwned(Long categoryId, User user) {
+        if (categoryId == null) {
+            return null;
+        }
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Category", categoryId));
+        if (!category.getUser().getId().equals(user.getId())) {
+            throw new ResourceNotFoundException("Category", categoryId);
+        }
+        return category;
+    }
+
+    private Income findIncomeOwned(Long id, User user) {
         Income income = incomeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Income", id));
         if (!income.getAccount().getUser().getId().equals(user.getId())) {
@@ -0,0 +1,38 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds {@code monthly_rollups} for every user when started with {@code --app.rollups.rebuild=true}.
+ * Needed once after the table is introduced and to repair drift; each user is rebuilt in its own transaction.
+ * Runs under a {@link ClusterLock}, so nodes started with the flag together do not rebuild the same users twice.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rollups.rebuild", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class MonthlyRollupRebuildRunner implements ApplicationRunner {
+
+    private final MonthlyRollupService monthlyRollupService;
+    private final UserRepository userRepository;
+    private final ClusterLock clusterLock;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        clusterLock.runExclusively("monthly-rollup-rebuild", () -> {
+            int users = 0;
+            int buckets = 0;
+            for (Long userId : userRepository.findAllIds()) {
+                buckets += monthlyRollupService.rebuildForUser(userId);
+                users++;
+            }
+            log.info("Rebuilt {} monthly rollup buckets for {} users", buckets, users);
+        });
+    }
+}
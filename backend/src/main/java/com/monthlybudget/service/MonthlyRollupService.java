@@ -0,0 +1,113 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.model.MonthlyRollup;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.repository.projection.RollupTotal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains {@code monthly_rollups} alongside expense and income writes. Callers run inside their own
+ * transaction, so a bucket only changes if the transaction that caused it commits.
+ * <p>
+ * Each bucket is one row, enforced by a unique key on account, category and month. A missing bucket is
+ * created with an upsert, so two writers racing to create it both land in the same row.
+ */
+@Service
+@RequiredArgsConstructor
+public class MonthlyRollupService {
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+
+    public void apply(Long userId, RollupKey key, RollupDelta delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        int updated = monthlyRollupRepository.increment(key.accountId(), key.categoryId(), key.monthStart(),
+                delta.expenseTotal(), delta.expenseCount(),
+                delta.returnTotal(), delta.returnCount(),
+                delta.incomeTotal(), delta.incomeCount());
+        if (updated == 0) {
+            monthlyRollupRepository.upsert(userId, key.accountId(), key.categoryId(), key.monthStart(),
+                    delta.expenseTotal(), delta.expenseCount(),
+                    delta.returnTotal(), delta.returnCount(),
+                    delta.incomeTotal(), delta.incomeCount());
+        }
+    }
+
+    /**
+     * Moves a transaction from one bucket to another, or nets the change when the bucket is unchanged.
+     */
+    public void move(Long userId, RollupKey oldKey, RollupDelta oldDelta, RollupKey newKey, RollupDelta newDelta) {
+        if (oldKey.equals(newKey)) {
+            apply(userId, newKey, newDelta.plus(oldDelta.negate()));
+            return;
+        }
+        apply(userId, oldKey, oldDelta.negate());
+        apply(userId, newKey, newDelta);
+    }
+
+    /**
+     * Recomputes every bucket of one user from their expenses and incomes. Holds the user's row lock,
+     * which every write takes first, so no increment lands between the delete and the reinsert.
+     *
+     * @return number of buckets written
+     */
+    @Transactional
+    public int rebuildForUser(Long userId) {
+        if (userRepository.lockById(userId).isEmpty()) {
+            return 0;
+        }
+        monthlyRollupRepository.deleteByUserId(userId);
+
+        Map<RollupKey, RollupDelta> buckets = new LinkedHashMap<>();
+        for (RollupTotal total : expenseRepository.sumForRollupsByUserId(userId)) {
+            buckets.merge(keyOf(total), RollupDelta.expense(total.total(), total.count(), total.isReturn()),
+                    RollupDelta::plus);
+        }
+        for (RollupTotal total : incomeRepository.sumForRollupsByUserId(userId)) {
+            buckets.merge(keyOf(total), RollupDelta.income(total.total(), total.count()), RollupDelta::plus);
+        }
+
+        List<MonthlyRollup> rollups = buckets.entrySet().stream()
+                .map(bucket -> toRollup(userId, bucket.getKey(), bucket.getValue()))
+                .toList();
+        monthlyRollupRepository.saveAll(rollups);
+        return rollups.size();
+    }
+
+    private static RollupKey keyOf(RollupTotal total) {
+        return new RollupKey(total.accountId(), total.categoryId(), LocalDate.of(total.year(), total.month(), 1));
+    }
+
+    private MonthlyRollup toRollup(Long userId, RollupKey key, RollupDelta delta) {
+        return MonthlyRollup.builder()
+                .user(userRepository.getReferenceById(userId))
+                .account(accountRepository.getReferenceById(key.accountId()))
+                .category(key.categoryId() != null ? categoryRepository.getReferenceById(key.categoryId()) : null)
+                .monthStart(key.monthStart())
+                .expenseTotal(delta.expenseTotal())
+                .expenseCount(delta.expenseCount())
+                .returnTotal(delta.returnTotal())
+                .returnCount(delta.returnCount())
+                .incomeTotal(delta.incomeTotal())
+                .incomeCount(delta.incomeCount())
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.monthlybudget.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs a write in its own transaction and replays it when a concurrent writer won the race
+ * (stale {@code @Version} or a deadlock between two balance updates). Each retry waits a random
+ * time up to an exponentially growing cap, so colliding clients spread out instead of colliding again.
+ * Nothing is locked up front, so uncontended writes pay nothing.
+ * The retry counters are published over JMX ({@code spring.jmx.enabled}).
+ */
+@Component
+@ManagedResource(objectName = "com.monthlybudget:type=OptimisticRetry")
+@Slf4j
+public class OptimisticRetry {
+
+    private final TransactionOperations transactions;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    @Autowired
+    public OptimisticRetry(TransactionOperations transactions,
+                           @Value("${app.retry.max-attempts:4}") int maxAttempts,
+                           @Value("${app.retry.backoff-ms:20}") long backoffMillis) {
+        this.transactions = transactions;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public <T> T run(Supplier<T> work) {
+        // Inside someone else's transaction a replay would reuse the stale persistence context; let them retry
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactions.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.incrementAndGet();
+                    log.warn("Giving up after {} conflicting attempts", attempt);
+                    throw e;
+                }
+                retries.incrementAndGet();
+                log.debug("Write conflict on attempt {}, retrying: {}", attempt, e.getMessage());
+                backOff(attempt);
+            }
+        }
+    }
+
+    public void run(Runnable work) {
+        run(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /** Total number of replays since startup. */
+    @ManagedAttribute(description = "Writes replayed after a conflict since startup")
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    /** Writes that still conflicted after the last attempt and were surfaced to the caller. */
+    @ManagedAttribute(description = "Writes that still conflicted after the last attempt")
+    public long getExhaustedCount() {
+        return exhausted.get();
+    }
+
+    private void backOff(int attempt) {
+        long cap = backoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
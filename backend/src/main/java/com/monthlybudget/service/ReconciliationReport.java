@@ -0,0 +1,10 @@
+package com.monthlybudget.service;
+
+import java.util.List;
+
+/**
+ * Outcome of one reconciliation pass. {@code mismatches} holds at most a sample; {@code mismatchCount} is the total.
+ */
+public record ReconciliationReport(long accountsChecked, long mismatchCount, long repaired,
+                                   List<BalanceMismatch> mismatches) {
+}
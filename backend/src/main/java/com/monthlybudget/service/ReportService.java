@@ -0,0 +1,75 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.TimeseriesPointResponse;
+import com.monthlybudget.dto.response.TimeseriesResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.repository.TimeseriesRepository;
+import com.monthlybudget.repository.projection.PeriodTotal;
+import com.monthlybudget.security.AuthHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+
+    static final int MAX_POINTS = 1000;
+
+    private final TimeseriesRepository timeseriesRepository;
+    private final AuthHelper authHelper;
+    private final Clock clock;
+
+    /**
+     * Returns one point per period between {@code from} and {@code to}, zero-filled where nothing was recorded.
+     * Defaults to the last 30 days, 12 weeks or 6 months ending today.
+     */
+    @Transactional(readOnly = true)
+    public TimeseriesResponse getTimeseries(TimeseriesGranularity granularity, LocalDate from, LocalDate to,
+                                            List<Long> accountIds, List<Long> categoryIds) {
+        LocalDate end = to != null ? to : LocalDate.now(clock);
+        LocalDate start = from != null ? from : defaultFrom(granularity, end);
+        if (start.isAfter(end)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+
+        // Dense series keyed by period start; the first period may begin before 'from'
+        Map<LocalDate, BigDecimal[]> series = new LinkedHashMap<>();
+        for (LocalDate period = granularity.truncate(start); !period.isAfter(end); period = granularity.next(period)) {
+            if (series.size() == MAX_POINTS) {
+                throw new BadRequestException("Range is too long for " + granularity.sqlUnit()
+                        + " granularity (max " + MAX_POINTS + " points)");
+            }
+            series.put(period, new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO});
+        }
+
+        List<PeriodTotal> totals = timeseriesRepository.sumByPeriod(authHelper.getCurrentUserId(),
+                granularity.sqlUnit(), start, end, accountIds, categoryIds);
+        for (PeriodTotal total : totals) {
+            BigDecimal[] point = series.get(granularity.truncate(total.period()));
+            point[0] = point[0].add(total.spent());
+            point[1] = point[1].add(total.returns());
+            point[2] = point[2].add(total.income());
+        }
+
+        List<TimeseriesPointResponse> points = new ArrayList<>(series.size());
+        series.forEach((period, sums) -> points.add(new TimeseriesPointResponse(period, sums[0], sums[1], sums[2])));
+        return new TimeseriesResponse(granularity.sqlUnit(), start, end, points);
+    }
+
+    private static LocalDate defaultFrom(TimeseriesGranularity granularity, LocalDate to) {
+        return switch (granularity) {
+            case DAY -> to.minusDays(29);
+            case WEEK -> granularity.truncate(to).minusWeeks(11);
+            case MONTH -> granularity.truncate(to).minusMonths(5);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.monthlybudget.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Change to apply to one rollup bucket. Deltas for the same bucket can be summed with {@link #plus}
+ * so a batch of transactions costs one update per bucket.
+ */
+public record RollupDelta(BigDecimal expenseTotal, long expenseCount,
+                          BigDecimal returnTotal, long returnCount,
+                          BigDecimal incomeTotal, long incomeCount) {
+
+    public static RollupDelta expense(BigDecimal amount, Boolean isReturn) {
+        return expense(amount, 1, isReturn);
+    }
+
+    public static RollupDelta expense(BigDecimal total, long count, Boolean isReturn) {
+        return Boolean.TRUE.equals(isReturn)
+                ? new RollupDelta(BigDecimal.ZERO, 0, total, count, BigDecimal.ZERO, 0)
+                : new RollupDelta(total, count, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0);
+    }
+
+    public static RollupDelta income(BigDecimal amount) {
+        return income(amount, 1);
+    }
+
+    public static RollupDelta income(BigDecimal total, long count) {
+        return new RollupDelta(BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, total, count);
+    }
+
+    public RollupDelta plus(RollupDelta other) {
+        return new RollupDelta(
+                expenseTotal.add(other.expenseTotal), expenseCount + other.expenseCount,
+                returnTotal.add(other.returnTotal), returnCount + other.returnCount,
+                incomeTotal.add(other.incomeTotal), incomeCount + other.incomeCount);
+    }
+
+    public RollupDelta negate() {
+        return new RollupDelta(
+                expenseTotal.negate(), -expenseCount,
+                returnTotal.negate(), -returnCount,
+                incomeTotal.negate(), -incomeCount);
+    }
+
+    public boolean isZero() {
+        return expenseCount == 0 && returnCount == 0 && incomeCount == 0
+                && expenseTotal.signum() == 0 && returnTotal.signum() == 0 && incomeTotal.signum() == 0;
+    }
+}
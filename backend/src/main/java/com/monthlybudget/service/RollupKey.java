@@ -0,0 +1,13 @@
+package com.monthlybudget.service;
+
+import java.time.LocalDate;
+
+/**
+ * Identifies one {@code monthly_rollups} bucket. {@code categoryId} is null for uncategorised incomes.
+ */
+public record RollupKey(Long accountId, Long categoryId, LocalDate monthStart) {
+
+    public static RollupKey of(Long accountId, Long categoryId, LocalDate date) {
+        return new RollupKey(accountId, categoryId, date.withDayOfMonth(1));
+    }
+}
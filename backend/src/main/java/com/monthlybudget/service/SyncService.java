@@ -0,0 +1,119 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.ExpenseResponse;
+import com.monthlybudget.dto.response.IncomeResponse;
+import com.monthlybudget.dto.response.SyncResponse;
+import com.monthlybudget.dto.response.TombstoneResponse;
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.mapper.AccountMapper;
+import com.monthlybudget.mapper.CategoryMapper;
+import com.monthlybudget.mapper.GoalMapper;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.GoalRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.TombstoneRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthHelper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Delta sync: everything the user created, updated or deleted since a token.
+ * Each write stamps its rows with the user's data version (see {@link DataVersionService#bump}), and each
+ * query is a range scan on (owner, change_version), so cost follows the churn rather than the data size.
+ * A token older than the tombstone retention, or from the future, gets a full resync instead.
+ */
+@Service
+public class SyncService {
+
+    private static final long EVERYTHING = -1L;
+
+    private final AccountRepository accountRepository;
+    private final CategoryRepository categoryRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final GoalRepository goalRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final UserRepository userRepository;
+    private final AccountMapper accountMapper;
+    private final CategoryMapper categoryMapper;
+    private final GoalMapper goalMapper;
+    private final AuthHelper authHelper;
+    private final Duration tombstoneRetention;
+    private final Clock clock;
+
+    @Autowired
+    public SyncService(AccountRepository accountRepository, CategoryRepository categoryRepository,
+                       ExpenseRepository expenseRepository, IncomeRepository incomeRepository,
+                       GoalRepository goalRepository, TombstoneRepository tombstoneRepository,
+                       UserRepository userRepository, AccountMapper accountMapper, CategoryMapper categoryMapper,
+                       GoalMapper goalMapper, AuthHelper authHelper,
+                       @Value("${app.sync.tombstone-retention-days:90}") long tombstoneRetentionDays) {
+        this(accountRepository, categoryRepository, expenseRepository, incomeRepository, goalRepository,
+                tombstoneRepository, userRepository, accountMapper, categoryMapper, goalMapper, authHelper,
+                Duration.ofDays(tombstoneRetentionDays), Clock.systemUTC());
+    }
+
+    SyncService(AccountRepository accountRepository, CategoryRepository categoryRepository,
+                ExpenseRepository expenseRepository, IncomeRepository incomeRepository,
+                GoalRepository goalRepository, TombstoneRepository tombstoneRepository,
+                UserRepository userRepository, AccountMapper accountMapper, CategoryMapper categoryMapper,
+                GoalMapper goalMapper, AuthHelper authHelper, Duration tombstoneRetention, Clock clock) {
+        this.accountRepository = accountRepository;
+        this.categoryRepository = categoryRepository;
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.goalRepository = goalRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.userRepository = userRepository;
+        this.accountMapper = accountMapper;
+        this.categoryMapper = categoryMapper;
+        this.goalMapper = goalMapper;
+        this.authHelper = authHelper;
+        this.tombstoneRetention = tombstoneRetention;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public SyncResponse changesSince(String token) {
+        Long userId = authHelper.getCurrentUserId();
+        Instant now = clock.instant();
+        // Writers hold the user row from bump to commit, so every row stamped at or below this version is
+        // already visible; anything newer is picked up by the next sync
+        long current = userRepository.findDataVersionById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+
+        SyncToken since = token == null || token.isBlank() ? null : SyncToken.decode(token);
+        boolean fullResync = since == null
+                || since.version() > current
+                || since.issuedAt().isBefore(now.minus(tombstoneRetention));
+        long from = fullResync ? EVERYTHING : since.version();
+
+        List<Long> accountIds = accountRepository.findIdsByUserId(userId);
+        List<ExpenseResponse> expenses = accountIds.isEmpty()
+                ? List.of() : expenseRepository.findResponsesChangedSince(accountIds, from);
+        List<IncomeResponse> incomes = accountIds.isEmpty()
+                ? List.of() : incomeRepository.findResponsesChangedSince(accountIds, from);
+        List<TombstoneResponse> deleted = fullResync
+                ? List.of() : tombstoneRepository.findResponsesChangedSince(userId, from);
+
+        return new SyncResponse(
+                new SyncToken(current, now).encode(),
+                fullResync,
+                accountMapper.toResponseList(accountRepository.findByUserIdAndChangeVersionGreaterThan(userId, from)),
+                categoryMapper.toResponseList(categoryRepository.findByUserIdAndChangeVersionGreaterThan(userId, from)),
+                expenses,
+                incomes,
+                goalMapper.toResponseList(goalRepository.findByUserIdAndChangeVersionGreaterThan(userId, from)),
+                deleted);
+    }
+}
@@ -0,0 +1,38 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync token: the user data version the client has seen, and when it was issued.
+ * The issue time decides whether the tombstones since then are still retained.
+ */
+record SyncToken(long version, Instant issuedAt) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = version + String.valueOf(SEPARATOR) + issuedAt.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            return new SyncToken(
+                    Long.parseLong(raw.substring(0, idx)),
+                    Instant.ofEpochMilli(Long.parseLong(raw.substring(idx + 1))));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.exception.BadRequestException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Period length for report time series. Weeks start on Monday, matching PostgreSQL {@code date_trunc}.
+ */
+public enum TimeseriesGranularity {
+    DAY {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusDays(1);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusMonths(1);
+        }
+    };
+
+    public abstract LocalDate truncate(LocalDate date);
+
+    public abstract LocalDate next(LocalDate periodStart);
+
+    public String sqlUnit() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static TimeseriesGranularity fromParam(String value) {
+        for (TimeseriesGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new BadRequestException("Granularity must be one of day, week, month");
+    }
+}
@@ -0,0 +1,37 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.repository.TombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+
+/**
+ * Drops tombstones past the retention window. Sync tokens older than the window get a full resync,
+ * so nothing still needs them. Runs under a {@link ClusterLock}, so only one node purges.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TombstonePurgeJob {
+
+    private final TombstoneRepository tombstoneRepository;
+    private final ClusterLock clusterLock;
+    private final TransactionOperations transactionOperations;
+
+    @Value("${app.sync.tombstone-retention-days:90}")
+    private long retentionDays;
+
+    @Scheduled(cron = "${app.sync.purge-cron:0 45 3 * * *}")
+    public void purge() {
+        clusterLock.runExclusively("tombstone-purge", () -> {
+            Integer purged = transactionOperations.execute(status ->
+                    tombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays)));
+            log.info("Purged {} tombstones older than {} days", purged, retentionDays);
+        });
+    }
+}
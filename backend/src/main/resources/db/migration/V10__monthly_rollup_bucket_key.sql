@@ -0,0 +1,35 @@
+-- One row per rollup bucket. Writers that raced to create the same bucket could leave several rows;
+-- fold them into the oldest before the key goes on, then let inserts upsert against it.
+
+WITH buckets AS (
+    SELECT MIN(id)            AS keep_id,
+           SUM(expense_total) AS expense_total,
+           SUM(expense_count) AS expense_count,
+           SUM(return_total)  AS return_total,
+           SUM(return_count)  AS return_count,
+           SUM(income_total)  AS income_total,
+           SUM(income_count)  AS income_count
+    FROM monthly_rollups
+    GROUP BY account_id, category_id, month_start
+    HAVING COUNT(*) > 1
+)
+UPDATE monthly_rollups r
+SET expense_total = b.expense_total,
+    expense_count = b.expense_count,
+    return_total  = b.return_total,
+    return_count  = b.return_count,
+    income_total  = b.income_total,
+    income_count  = b.income_count
+FROM buckets b
+WHERE r.id = b.keep_id;
+
+DELETE FROM monthly_rollups r
+USING monthly_rollups k
+WHERE r.account_id = k.account_id
+  AND r.category_id IS NOT DISTINCT FROM k.category_id
+  AND r.month_start = k.month_start
+  AND r.id > k.id;
+
+-- Uncategorised incomes share one bucket per account and month, so NULL categories must collide too
+CREATE UNIQUE INDEX IF NOT EXISTS uk_monthly_rollups_bucket
+    ON monthly_rollups (account_id, category_id, month_start) NULLS NOT DISTINCT;
@@ -0,0 +1,21 @@
+-- Transaction lists page through all of a user's accounts by (date, id). With only the account on the row
+-- no index serves that order, so every page sorted the user's whole history. Copy the owner onto each row
+-- and index the page order per user.
+
+ALTER TABLE expenses ADD COLUMN user_id BIGINT;
+UPDATE expenses e SET user_id = a.user_id FROM accounts a WHERE a.id = e.account_id;
+ALTER TABLE expenses ALTER COLUMN user_id SET NOT NULL;
+
+ALTER TABLE incomes ADD COLUMN user_id BIGINT;
+UPDATE incomes i SET user_id = a.user_id FROM accounts a WHERE a.id = i.account_id;
+ALTER TABLE incomes ALTER COLUMN user_id SET NOT NULL;
+
+-- The copy must always name the account's owner; a mismatch would list the row to the wrong user
+ALTER TABLE accounts ADD CONSTRAINT uk_accounts_id_user UNIQUE (id, user_id);
+ALTER TABLE expenses ADD CONSTRAINT fk_expenses_account_user
+    FOREIGN KEY (account_id, user_id) REFERENCES accounts (id, user_id);
+ALTER TABLE incomes ADD CONSTRAINT fk_incomes_account_user
+    FOREIGN KEY (account_id, user_id) REFERENCES accounts (id, user_id);
+
+CREATE INDEX IF NOT EXISTS idx_expenses_user_date_id ON expenses (user_id, date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_incomes_user_date_id ON incomes (user_id, date DESC, id DESC);
@@ -0,0 +1,74 @@
+-- Schema of the first release, as Hibernate ddl-auto generated it with IDENTITY ids. Databases created that
+-- way are baselined at this version (spring.flyway.baseline-on-migrate) and start from V2. Constraint names
+-- differ from Hibernate's generated ones, which neither later migrations nor schema validation rely on.
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255),
+    auth_provider VARCHAR(255) CHECK (auth_provider IN ('LOCAL', 'GOOGLE')),
+    created_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE accounts (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name            VARCHAR(255)   NOT NULL,
+    initial_balance NUMERIC(12, 2) NOT NULL,
+    current_balance NUMERIC(12, 2) NOT NULL,
+    user_id         BIGINT         NOT NULL,
+    CONSTRAINT accounts_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_accounts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE categories (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name       VARCHAR(255) NOT NULL,
+    icon       VARCHAR(255),
+    color      VARCHAR(255),
+    is_default BOOLEAN      NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    CONSTRAINT categories_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_categories_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE expenses (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    amount      NUMERIC(10, 2) NOT NULL,
+    description VARCHAR(255),
+    date        DATE           NOT NULL,
+    is_return   BOOLEAN        NOT NULL,
+    created_at  TIMESTAMP(6)   NOT NULL,
+    account_id  BIGINT         NOT NULL,
+    category_id BIGINT         NOT NULL,
+    CONSTRAINT expenses_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_expenses_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_expenses_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE incomes (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    amount      NUMERIC(10, 2) NOT NULL,
+    description VARCHAR(255),
+    date        DATE           NOT NULL,
+    created_at  TIMESTAMP(6)   NOT NULL,
+    account_id  BIGINT         NOT NULL,
+    category_id BIGINT,
+    CONSTRAINT incomes_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_incomes_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_incomes_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE goals (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name           VARCHAR(255)   NOT NULL,
+    target_amount  NUMERIC(10, 2) NOT NULL,
+    current_amount NUMERIC(10, 2) NOT NULL,
+    deadline       DATE,
+    user_id        BIGINT         NOT NULL,
+    category_id    BIGINT,
+    CONSTRAINT goals_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_goals_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_goals_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
@@ -0,0 +1,4 @@
+-- Keyset pages, per-account history and the balance/report range sums. IF NOT EXISTS because databases
+-- that ran this release under ddl-auto got them from the entity annotations.
+CREATE INDEX IF NOT EXISTS idx_expenses_account_date_id ON expenses (account_id, date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_incomes_account_date_id ON incomes (account_id, date DESC, id DESC);
@@ -0,0 +1,25 @@
+-- Ids move from IDENTITY columns to pooled sequences (allocationSize 50). Each sequence is moved past its
+-- table's highest id: Hibernate's pooled optimizer hands out the 50 ids ending at the value it draws, so
+-- with last_value at MAX(id) the next block starts right after the existing rows.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS accounts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS categories_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS expenses_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS incomes_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS goals_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE accounts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE categories ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE expenses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE incomes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE goals ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- Only ever moves a sequence forward, so databases that already drew ids from it are left alone
+SELECT setval('users_seq', MAX(id)) FROM users HAVING MAX(id) >= (SELECT last_value FROM users_seq);
+SELECT setval('accounts_seq', MAX(id)) FROM accounts HAVING MAX(id) >= (SELECT last_value FROM accounts_seq);
+SELECT setval('categories_seq', MAX(id)) FROM categories HAVING MAX(id) >= (SELECT last_value FROM categories_seq);
+SELECT setval('expenses_seq', MAX(id)) FROM expenses HAVING MAX(id) >= (SELECT last_value FROM expenses_seq);
+SELECT setval('incomes_seq', MAX(id)) FROM incomes HAVING MAX(id) >= (SELECT last_value FROM incomes_seq);
+SELECT setval('goals_seq', MAX(id)) FROM goals HAVING MAX(id) >= (SELECT last_value FROM goals_seq);
@@ -0,0 +1,25 @@
+-- Pre-aggregated monthly totals per account and category, kept in step with expense and income writes
+-- and filled for existing data by MonthlyRollupRebuildRunner.
+
+CREATE SEQUENCE IF NOT EXISTS monthly_rollups_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS monthly_rollups (
+    id            BIGINT         NOT NULL,
+    user_id       BIGINT         NOT NULL,
+    account_id    BIGINT         NOT NULL,
+    category_id   BIGINT,
+    month_start   DATE           NOT NULL,
+    expense_total NUMERIC(14, 2) NOT NULL,
+    expense_count BIGINT         NOT NULL,
+    return_total  NUMERIC(14, 2) NOT NULL,
+    return_count  BIGINT         NOT NULL,
+    income_total  NUMERIC(14, 2) NOT NULL,
+    income_count  BIGINT         NOT NULL,
+    CONSTRAINT monthly_rollups_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_monthly_rollups_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_monthly_rollups_account FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT fk_monthly_rollups_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_monthly_rollups_user_month ON monthly_rollups (user_id, month_start);
+CREATE INDEX IF NOT EXISTS idx_monthly_rollups_account_month ON monthly_rollups (account_id, month_start, category_id);
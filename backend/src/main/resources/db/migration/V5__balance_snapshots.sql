@@ -0,0 +1,13 @@
+-- Month-end closing balances for point-in-time balance lookups.
+
+CREATE SEQUENCE IF NOT EXISTS balance_snapshots_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS balance_snapshots (
+    id              BIGINT         NOT NULL,
+    account_id      BIGINT         NOT NULL,
+    month_end       DATE           NOT NULL,
+    closing_balance NUMERIC(12, 2) NOT NULL,
+    CONSTRAINT balance_snapshots_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_balance_snapshots_account_month UNIQUE (account_id, month_end),
+    CONSTRAINT fk_balance_snapshots_account FOREIGN KEY (account_id) REFERENCES accounts (id)
+);
@@ -0,0 +1,12 @@
+-- Indexes behind the remaining repository finders. PostgreSQL does not index foreign keys on its own.
+
+-- Per-user lists
+CREATE INDEX IF NOT EXISTS idx_accounts_user ON accounts (user_id);
+CREATE INDEX IF NOT EXISTS idx_categories_user ON categories (user_id);
+CREATE INDEX IF NOT EXISTS idx_goals_user ON goals (user_id);
+
+-- Foreign keys that are filtered on or checked when a category is deleted
+CREATE INDEX IF NOT EXISTS idx_expenses_category ON expenses (category_id);
+CREATE INDEX IF NOT EXISTS idx_incomes_category ON incomes (category_id);
+CREATE INDEX IF NOT EXISTS idx_goals_category ON goals (category_id);
+CREATE INDEX IF NOT EXISTS idx_monthly_rollups_category ON monthly_rollups (category_id);
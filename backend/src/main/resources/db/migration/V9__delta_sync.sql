@@ -0,0 +1,29 @@
+-- Every synced row carries the user data version of its last write; deletes leave a tombstone.
+
+ALTER TABLE accounts ADD COLUMN IF NOT EXISTS change_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS change_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE expenses ADD COLUMN IF NOT EXISTS change_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE incomes ADD COLUMN IF NOT EXISTS change_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE goals ADD COLUMN IF NOT EXISTS change_version BIGINT NOT NULL DEFAULT 0;
+
+CREATE SEQUENCE IF NOT EXISTS tombstones_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tombstones (
+    id             BIGINT       NOT NULL,
+    user_id        BIGINT       NOT NULL,
+    entity_type    VARCHAR(255) NOT NULL CHECK (entity_type IN ('ACCOUNT', 'CATEGORY', 'EXPENSE', 'INCOME', 'GOAL')),
+    entity_id      BIGINT       NOT NULL,
+    change_version BIGINT       NOT NULL,
+    deleted_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT tombstones_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_tombstones_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Change queries: per user for accounts, categories, goals and tombstones, per account for transactions
+CREATE INDEX IF NOT EXISTS idx_accounts_user_change ON accounts (user_id, change_version);
+CREATE INDEX IF NOT EXISTS idx_categories_user_change ON categories (user_id, change_version);
+CREATE INDEX IF NOT EXISTS idx_goals_user_change ON goals (user_id, change_version);
+CREATE INDEX IF NOT EXISTS idx_expenses_account_change ON expenses (account_id, change_version);
+CREATE INDEX IF NOT EXISTS idx_incomes_account_change ON incomes (account_id, change_version);
+CREATE INDEX IF NOT EXISTS idx_tombstones_user_change ON tombstones (user_id, change_version);
+CREATE INDEX IF NOT EXISTS idx_tombstones_deleted_at ON tombstones (deleted_at);
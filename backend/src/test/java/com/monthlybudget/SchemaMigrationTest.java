@@ -0,0 +1,116 @@
+package com.monthlybudget;
+
+import com.monthlybudget.repository.MonthlyRollupRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations against a real PostgreSQL and lets Hibernate validate the entities against
+ * the result; the context only starts if they match. Skipped where Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Test
+    void migratedSchemaMatchesEntities() {
+        assertEquals(0, flyway.info().pending().length);
+        assertNotNull(flyway.info().current());
+    }
+
+    @Test
+    void sequencesStartPastIdsOfFirstReleaseDatabase() {
+        flywayFor("first_release").target("1").load().migrate();
+        JdbcTemplate jdbc = jdbcFor("first_release");
+        jdbc.update("INSERT INTO users (id, email, auth_provider, created_at) VALUES (120, 'a@test.com', 'LOCAL', now())");
+
+        flywayFor("first_release").load().migrate();
+
+        long nextBlockEnd = jdbc.queryForObject("SELECT nextval('users_seq')", Long.class);
+        assertTrue(nextBlockEnd - 49 > 120, "next pooled block must start after existing ids");
+    }
+
+    @Test
+    void transactionsTakeTheirOwnerFromTheirAccount() {
+        flywayFor("before_owner").target("10").load().migrate();
+        JdbcTemplate jdbc = jdbcFor("before_owner");
+        jdbc.update("INSERT INTO users (id, email, auth_provider, created_at) VALUES (3, 'o@test.com', 'LOCAL', now())");
+        jdbc.update("INSERT INTO users (id, email, auth_provider, created_at) VALUES (9, 'x@test.com', 'LOCAL', now())");
+        jdbc.update("INSERT INTO accounts (id, name, initial_balance, current_balance, user_id) VALUES (4, 'Main', 0, 0, 3)");
+        jdbc.update("INSERT INTO categories (id, name, is_default, user_id) VALUES (5, 'Food', false, 3)");
+        jdbc.update("""
+                INSERT INTO expenses (id, amount, date, is_return, created_at, account_id, category_id)
+                VALUES (6, 1.00, '2025-03-01', false, now(), 4, 5)""");
+        jdbc.update("INSERT INTO incomes (id, amount, date, created_at, account_id) VALUES (7, 1.00, '2025-03-01', now(), 4)");
+
+        flywayFor("before_owner").load().migrate();
+
+        assertEquals(3L, jdbc.queryForObject("SELECT user_id FROM expenses WHERE id = 6", Long.class));
+        assertEquals(3L, jdbc.queryForObject("SELECT user_id FROM incomes WHERE id = 7", Long.class));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbc.update("UPDATE expenses SET user_id = 9 WHERE id = 6"));
+    }
+
+    @Test
+    void rollupUpsertsShareOneRowPerBucketEvenWithoutCategory() {
+        jdbcTemplate.update("INSERT INTO users (id, email, auth_provider, created_at) VALUES (7, 'r@test.com', 'LOCAL', now())");
+        jdbcTemplate.update("INSERT INTO accounts (id, name, initial_balance, current_balance, user_id) VALUES (8, 'Main', 0, 0, 7)");
+        LocalDate march = LocalDate.of(2025, 3, 1);
+
+        for (int i = 0; i < 2; i++) {
+            transactionTemplate.executeWithoutResult(status -> monthlyRollupRepository.upsert(7L, 8L, null, march,
+                    BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, new BigDecimal("50.00"), 1));
+        }
+
+        assertEquals(new BigDecimal("100.00"), jdbcTemplate.queryForObject(
+                "SELECT income_total FROM monthly_rollups WHERE account_id = 8 AND category_id IS NULL", BigDecimal.class));
+    }
+
+    private static FluentConfiguration flywayFor(String schema) {
+        return Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .schemas(schema);
+    }
+
+    private static JdbcTemplate jdbcFor(String schema) {
+        String url = POSTGRES.getJdbcUrl();
+        String separator = url.contains("?") ? "&" : "?";
+        return new JdbcTemplate(new DriverManagerDataSource(
+                url + separator + "currentSchema=" + schema, POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+}
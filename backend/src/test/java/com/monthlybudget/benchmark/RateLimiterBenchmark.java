@@ -0,0 +1,94 @@
+package com.monthlybudget.benchmark;
+
+import com.monthlybudget.security.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limiter cost per request with 100k distinct client keys hit concurrently.
+ * Run with: {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.monthlybudget.benchmark.RateLimiterBenchmark}
+ * <p>
+ * On JDK 21.0.1, one core, so the eight threads take turns: legacySweep 8.0 &plusmn; 4.8 ms/op, tryAcquire
+ * 7.3 &plusmn; 1.3 us/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int DISTINCT_KEYS = 100_000;
+
+    private TokenBucketRateLimiter limiter;
+    private String[] keys;
+    private Map<String, LegacyBucket> legacyBuckets;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(300, 60, 200_000);
+        legacyBuckets = new ConcurrentHashMap<>();
+        keys = new String[DISTINCT_KEYS];
+        for (int i = 0; i < DISTINCT_KEYS; i++) {
+            keys[i] = "10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF);
+            limiter.tryAcquire(keys[i]);
+            legacyTryAcquire(keys[i]);
+        }
+    }
+
+    /** The previous filter path: a removeIf sweep over every tracked key on each request. */
+    @Benchmark
+    public boolean legacySweep() {
+        return legacyTryAcquire(keys[ThreadLocalRandom.current().nextInt(DISTINCT_KEYS)]);
+    }
+
+    @Benchmark
+    public boolean tryAcquire() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(DISTINCT_KEYS)]);
+    }
+
+    private boolean legacyTryAcquire(String key) {
+        long now = System.currentTimeMillis();
+        legacyBuckets.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        LegacyBucket bucket = legacyBuckets.computeIfAbsent(key, k -> new LegacyBucket(now));
+        if (bucket.isExpired(now)) {
+            bucket.reset(now);
+        }
+        return bucket.count.incrementAndGet() <= 300;
+    }
+
+    private static final class LegacyBucket {
+        private long windowStart;
+        private final AtomicInteger count = new AtomicInteger();
+
+        LegacyBucket(long now) {
+            this.windowStart = now;
+        }
+
+        boolean isExpired(long now) {
+            return now - windowStart > 60_000L;
+        }
+
+        void reset(long now) {
+            windowStart = now;
+            count.set(0);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package com.monthlybudget.config;
+
+import com.monthlybudget.repository.AccountRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The full application context with a replica configured, so transactions run through the JPA transaction
+ * manager the application uses. The replica pool opens the same in-memory database, which keeps the schema
+ * in one place, but tags each of its sessions; a query on the transaction's connection tells which pool it
+ * came from.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.url=jdbc:h2:mem:testdb;INIT=SET @NODE = 'replica'",
+        "app.datasource.replica.username=sa"
+})
+class ReadReplicaContextRoutingTest {
+
+    @Autowired private NodeProbe nodeProbe;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void applicationUsesJpaTransactionManager() {
+        assertInstanceOf(JpaTransactionManager.class, transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionRunsRepositoryQueriesOnReplica() {
+        assertEquals("replica", nodeProbe.readOnly());
+    }
+
+    @Test
+    void readWriteTransactionRunsRepositoryQueriesOnPrimary() {
+        assertEquals("primary", nodeProbe.readWrite());
+    }
+
+    @TestConfiguration
+    static class Probe {
+
+        @Bean
+        NodeProbe nodeProbe(AccountRepository accountRepository, EntityManager entityManager) {
+            return new NodeProbe(accountRepository, entityManager);
+        }
+    }
+
+    static class NodeProbe {
+
+        private final AccountRepository accountRepository;
+        private final EntityManager entityManager;
+
+        NodeProbe(AccountRepository accountRepository, EntityManager entityManager) {
+            this.accountRepository = accountRepository;
+            this.entityManager = entityManager;
+        }
+
+        @Transactional(readOnly = true)
+        public String readOnly() {
+            accountRepository.findByUserId(-1L);
+            return node();
+        }
+
+        @Transactional
+        public String readWrite() {
+            accountRepository.findByUserId(-1L);
+            return node();
+        }
+
+        // Same transaction, so same connection as the repository query above
+        private String node() {
+            Object node = entityManager.createNativeQuery("SELECT @NODE").getSingleResult();
+            return node == null ? "primary" : node.toString();
+        }
+    }
+}
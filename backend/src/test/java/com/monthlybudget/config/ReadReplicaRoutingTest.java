@@ -0,0 +1,68 @@
+package com.monthlybudget.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; each knows its own name.
+ */
+class ReadReplicaRoutingTest {
+
+    private final DataSource primary = standIn("primary");
+    private final DataSource replica = standIn("replica");
+
+    @BeforeEach
+    void setUp() {
+        for (DataSource dataSource : new DataSource[]{primary, replica}) {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+            jdbc.update("DELETE FROM node");
+        }
+        new JdbcTemplate(primary).update("INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replica).update("INSERT INTO node VALUES ('replica')");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        DataSource routing = ReadReplicaConfig.routing(primary, replica, Duration.ofSeconds(30));
+
+        assertEquals("replica", nodeName(routing, true));
+        assertEquals("primary", nodeName(routing, false));
+    }
+
+    @Test
+    void queriesOutsideTransactionsGoToPrimary() {
+        DataSource routing = ReadReplicaConfig.routing(primary, replica, Duration.ofSeconds(30));
+
+        assertEquals("primary", new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToPrimaryWhenReplicaIsDown() {
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:tcp://127.0.0.1:1/missing", "sa", "");
+        DataSource routing = ReadReplicaConfig.routing(primary, unreachable, Duration.ofSeconds(30));
+
+        assertEquals("primary", nodeName(routing, true));
+        assertEquals("primary", nodeName(routing, true));
+    }
+
+    private String nodeName(DataSource routing, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(routing).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource standIn(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-standin;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,127 @@
+package com.monthlybudget.repository;
+
+import com.monthlybudget.dto.response.IncomeResponse;
+import com.monthlybudget.mapper.IncomeMapper;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.Category;
+import com.monthlybudget.model.Income;
+import com.monthlybudget.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class IncomeRepositoryTest {
+
+    @Autowired private IncomeRepository incomeRepository;
+    @Autowired private IncomeMapper incomeMapper;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Long firstIncomeId;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("fetch-plan-income@test.com").password("x").build();
+        entityManager.persist(user);
+
+        for (int a = 0; a < 3; a++) {
+            Account account = Account.builder()
+                    .name("Account " + a)
+                    .initialBalance(BigDecimal.ZERO)
+                    .currentBalance(BigDecimal.ZERO)
+                    .user(user)
+                    .build();
+            entityManager.persist(account);
+
+            Category category = Category.builder().name("Category " + a).color("#00000" + a).user(user).build();
+            entityManager.persist(category);
+
+            for (int e = 0; e < 3; e++) {
+                Income income = Income.builder()
+                        .amount(new BigDecimal("10.00"))
+                        .date(LocalDate.of(2025, 1, 1 + a * 3 + e))
+                        .account(account)
+                        .user(user)
+                        .category(category)
+                        .build();
+                entityManager.persist(income);
+                if (firstIncomeId == null) {
+                    firstIncomeId = income.getId();
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void firstPageAndPageAfter_shouldProjectOneStatementEach() {
+        Statistics stats = statistics();
+
+        List<IncomeResponse> first = incomeRepository.findFirstPage(user.getId(), Limit.of(4));
+
+        assertEquals(List.of(9, 8, 7, 6), first.stream().map(r -> r.getDate().getDayOfMonth()).toList());
+        IncomeResponse newest = first.get(0);
+        assertEquals(new BigDecimal("10.00"), newest.getAmount());
+        assertNotNull(newest.getCreatedAt());
+        assertEquals("Account 2", newest.getAccountName());
+        assertEquals("Category 2", newest.getCategoryName());
+        assertEquals("#000002", newest.getCategoryColor());
+        assertEquals(1, stats.getPrepareStatementCount());
+
+        IncomeResponse last = first.get(3);
+        List<IncomeResponse> next = incomeRepository.findPageAfter(user.getId(), last.getDate(), last.getId(), Limit.of(4));
+
+        assertEquals(List.of(5, 4, 3, 2), next.stream().map(r -> r.getDate().getDayOfMonth()).toList());
+        assertEquals(2, stats.getPrepareStatementCount());
+        assertEquals(0, stats.getEntityLoadCount());
+    }
+
+    @Test
+    void findByIdWithMapping_shouldUseSingleStatement() {
+        Statistics stats = statistics();
+
+        Income income = incomeRepository.findById(firstIncomeId).orElseThrow();
+        IncomeResponse response = incomeMapper.toResponse(income);
+
+        assertEquals("Account 0", response.getAccountName());
+        assertEquals("Category 0", response.getCategoryName());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    void findResponsesByUserId_shouldProjectWithoutManagingEntities() {
+        Statistics stats = statistics();
+
+        List<IncomeResponse> responses = incomeRepository.findResponsesByUserId(user.getId());
+
+        assertEquals(9, responses.size());
+        assertEquals("Account 2", responses.get(0).getAccountName());
+        assertEquals("Category 2", responses.get(0).getCategoryName());
+        assertEquals(1, stats.getPrepareStatementCount());
+        assertEquals(0, stats.getEntityLoadCount());
+    }
+
+    private Statistics statistics() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        return stats;
+    }
+}
@@ -0,0 +1,108 @@
+package com.monthlybudget.repository;
+
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.Category;
+import com.monthlybudget.model.Expense;
+import com.monthlybudget.model.Income;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.projection.DailyBalance;
+import com.monthlybudget.repository.projection.PeriodTotal;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class TimeseriesRepositoryTest {
+
+    @Autowired private TimeseriesRepository timeseriesRepository;
+    @Autowired private EntityManager entityManager;
+
+    private User user;
+    private Account main;
+    private Account savings;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().email("timeseries@test.com").password("x").build();
+        entityManager.persist(user);
+
+        main = account("Main");
+        savings = account("Savings");
+        food = Category.builder().name("Food").user(user).build();
+        entityManager.persist(food);
+
+        expense(main, LocalDate.of(2025, 3, 1), "20.00", false);
+        expense(main, LocalDate.of(2025, 3, 1), "5.00", true);
+        expense(savings, LocalDate.of(2025, 3, 2), "7.00", false);
+        expense(main, LocalDate.of(2025, 4, 1), "99.00", false);
+        entityManager.persist(Income.builder().amount(new BigDecimal("1000.00")).date(LocalDate.of(2025, 3, 1))
+                .account(main).user(user).build());
+
+        entityManager.flush();
+    }
+
+    @Test
+    void sumByPeriod_shouldCombineExpensesAndIncomesWithinRange() {
+        List<PeriodTotal> totals = timeseriesRepository.sumByPeriod(user.getId(), "day",
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), null, null);
+
+        assertEquals(2, totals.size());
+        PeriodTotal first = totals.get(0);
+        assertEquals(LocalDate.of(2025, 3, 1), first.period());
+        assertEquals(0, first.spent().compareTo(new BigDecimal("20.00")));
+        assertEquals(0, first.returns().compareTo(new BigDecimal("5.00")));
+        assertEquals(0, first.income().compareTo(new BigDecimal("1000.00")));
+        assertEquals(0, totals.get(1).spent().compareTo(new BigDecimal("7.00")));
+    }
+
+    @Test
+    void sumByPeriod_shouldApplyAccountAndCategoryFilters() {
+        List<PeriodTotal> byAccount = timeseriesRepository.sumByPeriod(user.getId(), "day",
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), List.of(savings.getId()), null);
+        assertEquals(1, byAccount.size());
+        assertEquals(LocalDate.of(2025, 3, 2), byAccount.get(0).period());
+
+        // Incomes have no category here, so a category filter leaves only the expenses
+        List<PeriodTotal> byCategory = timeseriesRepository.sumByPeriod(user.getId(), "day",
+                LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1), null, List.of(food.getId()));
+        assertEquals(1, byCategory.size());
+        assertEquals(0, byCategory.get(0).income().signum());
+    }
+
+    @Test
+    void dailyNetWithRunningTotal_shouldCollapseHistoryBeforeRangeIntoOpeningRow() {
+        List<DailyBalance> days = timeseriesRepository.dailyNetWithRunningTotal(main.getId(),
+                LocalDate.of(2025, 3, 2), LocalDate.of(2025, 4, 30));
+
+        assertEquals(2, days.size());
+        // 2025-03-01: -20.00 expense, +5.00 return, +1000.00 income
+        assertEquals(LocalDate.of(2025, 3, 1), days.get(0).day());
+        assertEquals(0, days.get(0).runningNet().compareTo(new BigDecimal("985.00")));
+        assertEquals(LocalDate.of(2025, 4, 1), days.get(1).day());
+        assertEquals(0, days.get(1).net().compareTo(new BigDecimal("-99.00")));
+        assertEquals(0, days.get(1).runningNet().compareTo(new BigDecimal("886.00")));
+    }
+
+    private Account account(String name) {
+        Account account = Account.builder().name(name).initialBalance(BigDecimal.ZERO)
+                .currentBalance(BigDecimal.ZERO).user(user).build();
+        entityManager.persist(account);
+        return account;
+    }
+
+    private void expense(Account account, LocalDate date, String amount, boolean isReturn) {
+        entityManager.persist(Expense.builder().amount(new BigDecimal(amount)).date(date).isReturn(isReturn)
+                .account(account).user(user).category(food).build());
+    }
+}
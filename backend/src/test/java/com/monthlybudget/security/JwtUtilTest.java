@@ -1,5 +1,6 @@
 package com.monthlybudget.security;
 
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -22,51 +23,77 @@ class JwtUtilTest {
 
     @Test
     void generateToken_shouldReturnNonNullToken() {
-        String token = jwtUtil.generateToken("user@example.com");
+        String token = jwtUtil.generateToken(1L, "user@example.com");
         assertNotNull(token);
         assertFalse(token.isBlank());
     }
 
     @Test
-    void extractEmail_shouldReturnCorrectEmail() {
-        String email = "user@example.com";
-        String token = jwtUtil.generateToken(email);
+    void verify_shouldReturnSubjectAndEmbeddedUserId() {
+        String token = jwtUtil.generateToken(42L, "user@example.com");
 
-        assertEquals(email, jwtUtil.extractEmail(token));
+        Claims claims = jwtUtil.verify(token);
+
+        assertEquals("user@example.com", claims.getSubject());
+        assertEquals(Long.valueOf(42L), jwtUtil.extractUserId(claims));
     }
 
     @Test
-    void isTokenValid_shouldReturnTrueForValidToken() {
-        String email = "user@example.com";
-        String token = jwtUtil.generateToken(email);
+    void verify_shouldThrowForExpiredToken() {
+        String secret = Base64.getEncoder().encodeToString(
+                "test-secret-key-that-is-at-least-32-bytes!!".getBytes()
+        );
+        JwtUtil shortLivedJwt = new JwtUtil(secret, -1000);
+        String token = shortLivedJwt.generateToken(1L, "user@example.com");
 
-        assertTrue(jwtUtil.isTokenValid(token, email));
+        assertThrows(io.jsonwebtoken.ExpiredJwtException.class, () -> shortLivedJwt.verify(token));
     }
 
     @Test
-    void isTokenValid_shouldReturnFalseForWrongEmail() {
-        String token = jwtUtil.generateToken("user@example.com");
+    void verify_shouldThrowForTamperedToken() {
+        String token = jwtUtil.generateToken(1L, "user@example.com");
+        String tamperedToken = token + "tampered";
 
-        assertFalse(jwtUtil.isTokenValid(token, "other@example.com"));
+        assertThrows(Exception.class, () -> jwtUtil.verify(tamperedToken));
     }
 
     @Test
-    void isTokenValid_shouldThrowForExpiredToken() {
+    void verify_shouldKeepWorkingPastCacheSize() {
         String secret = Base64.getEncoder().encodeToString(
                 "test-secret-key-that-is-at-least-32-bytes!!".getBytes()
         );
-        JwtUtil shortLivedJwt = new JwtUtil(secret, -1000);
-        String token = shortLivedJwt.generateToken("user@example.com");
+        JwtUtil smallCache = new JwtUtil(secret, 3600000, 2);
 
-        assertThrows(io.jsonwebtoken.ExpiredJwtException.class,
-                () -> shortLivedJwt.isTokenValid(token, "user@example.com"));
+        for (long userId = 1; userId <= 5; userId++) {
+            String token = smallCache.generateToken(userId, "user" + userId + "@example.com");
+            assertEquals(Long.valueOf(userId), smallCache.extractUserId(smallCache.verify(token)));
+        }
     }
 
     @Test
-    void extractEmail_shouldThrowForTamperedToken() {
-        String token = jwtUtil.generateToken("user@example.com");
-        String tamperedToken = token + "tampered";
+    void verify_shouldReturnCachedClaimsForRepeatedToken() {
+        String token = jwtUtil.generateToken(1L, "user@example.com");
+
+        assertSame(jwtUtil.verify(token), jwtUtil.verify(token));
+    }
+
+    @Test
+    void verify_shouldStillRejectTamperedTokenAfterCachingOriginal() {
+        String token = jwtUtil.generateToken(1L, "user@example.com");
+        jwtUtil.verify(token);
+
+        assertThrows(Exception.class, () -> jwtUtil.verify(token + "tampered"));
+    }
+
+    @Test
+    void verify_shouldWorkWithCachingDisabled() {
+        String secret = Base64.getEncoder().encodeToString(
+                "test-secret-key-that-is-at-least-32-bytes!!".getBytes()
+        );
+        JwtUtil noCache = new JwtUtil(secret, 3600000, 0);
+        String token = noCache.generateToken(1L, "user@example.com");
 
-        assertThrows(Exception.class, () -> jwtUtil.extractEmail(tamperedToken));
+        assertEquals("user@example.com", noCache.verify(token).getSubject());
+        assertNotSame(noCache.verify(token), noCache.verify(token));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.monthlybudget.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    void tryAcquire_shouldAllowBurstUpToCapacity() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 60, 100, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("1.2.3.4"));
+        }
+        assertFalse(limiter.tryAcquire("1.2.3.4"));
+        assertTrue(limiter.tryAcquire("5.6.7.8"));
+    }
+
+    @Test
+    void tryAcquire_shouldRefillOneTokenPerInterval() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 60, 100, now::get);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("1.2.3.4");
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        assertTrue(limiter.tryAcquire("1.2.3.4"));
+        assertFalse(limiter.tryAcquire("1.2.3.4"));
+    }
+
+    @Test
+    void evictIdle_shouldDropOnlyFullyRefilledKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, 60, 100, now::get);
+        limiter.tryAcquire("idle");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("busy");
+        }
+
+        limiter.evictIdle();
+
+        assertEquals(1, limiter.trackedKeys());
+    }
+
+    @Test
+    void tryAcquire_shouldGiveNewKeyItsOwnBucketOnceKeyCapIsReached() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 60, 2, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        assertTrue(limiter.tryAcquire("new-1"));
+        assertTrue(limiter.tryAcquire("new-2"));
+        assertTrue(limiter.tryAcquire("new-3"));
+        assertTrue(limiter.tryAcquire("new-3"));
+        assertFalse(limiter.tryAcquire("new-3"));
+        assertEquals(2, limiter.trackedKeys());
+    }
+
+    @Test
+    void tryAcquire_shouldKeepExhaustedKeyWhenEvictingForNewKey() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 60, 2, now::get);
+        limiter.tryAcquire("abuser");
+        limiter.tryAcquire("abuser");
+        limiter.tryAcquire("quiet");
+
+        limiter.tryAcquire("fresh");
+
+        assertFalse(limiter.tryAcquire("abuser"));
+        assertEquals(2, limiter.trackedKeys());
+    }
+
+    @Test
+    void tryAcquire_shouldKeepThrottledKeysThroughFloodOfNewKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 60, 1024, now::get);
+        List<String> throttled = IntStream.range(0, 20).mapToObj(i -> "login-" + i).toList();
+        for (String key : throttled) {
+            limiter.tryAcquire(key);
+            limiter.tryAcquire(key);
+        }
+
+        for (int i = 0; i < 50_000; i++) {
+            limiter.tryAcquire("flood-" + i);
+        }
+
+        for (String key : throttled) {
+            assertFalse(limiter.tryAcquire(key), key);
+        }
+        assertEquals(1024, limiter.trackedKeys());
+    }
+}
@@ -7,13 +7,18 @@ import com.monthlybudget.mapper.AccountMapper;
 import com.monthlybudget.model.Account;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.BalanceSnapshotRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
 import com.monthlybudget.security.AuthHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -26,8 +31,14 @@ import static org.mockito.Mockito.*;
 class AccountServiceTest {
 
     @Mock private AccountRepository accountRepository;
+    @Mock private MonthlyRollupRepository monthlyRollupRepository;
+    @Mock private BalanceSnapshotRepository balanceSnapshotRepository;
     @Mock private AccountMapper accountMapper;
     @Mock private AuthHelper authHelper;
+    @Mock private DataVersionService dataVersionService;
+    @Mock private ChangeStreamService changeStreamService;
+    @Spy private OptimisticRetry optimisticRetry =
+            new OptimisticRetry(TransactionOperations.withoutTransaction(), 3, 0);
 
     @InjectMocks
     private AccountService accountService;
@@ -42,7 +53,11 @@ class AccountServiceTest {
     @Test
     void create_shouldSetCurrentBalanceToInitialBalance() {
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(accountRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(accountRepository.save(any())).thenAnswer(inv -> {
+            Account a = inv.getArgument(0);
+            a.setId(1L);
+            return a;
+        });
         when(accountMapper.toResponse(any())).thenReturn(new AccountResponse());
 
         AccountRequest request = new AccountRequest();
@@ -112,6 +127,22 @@ class AccountServiceTest {
 
         accountService.delete(1L);
 
+        verify(monthlyRollupRepository).deleteByAccountId(1L);
+        verify(balanceSnapshotRepository).deleteByAccountId(1L);
         verify(accountRepository).delete(account);
     }
-}
\ No newline at end of file
+
+    @Test
+    void delete_shouldRetryAfterLockConflict() {
+        Account account = Account.builder().id(1L).user(user).build();
+
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        doThrow(new CannotAcquireLockException("deadlock")).doNothing().when(accountRepository).delete(account);
+
+        accountService.delete(1L);
+
+        verify(accountRepository, times(2)).delete(account);
+        assertEquals(1, optimisticRetry.getRetryCount());
+    }
+}
@@ -8,6 +8,7 @@ import com.monthlybudget.exception.BadRequestException;
 import com.monthlybudget.model.AuthProvider;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthenticatedUser;
 import com.monthlybudget.security.GoogleTokenVerifier;
 import com.monthlybudget.security.JwtUtil;
 import org.junit.jupiter.api.Test;
@@ -16,8 +17,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,7 +55,7 @@ class AuthServiceTest {
             u.setId(1L);
             return u;
         });
-        when(jwtUtil.generateToken("user@example.com")).thenReturn("jwt-token");
+        when(jwtUtil.generateToken(1L, "user@example.com")).thenReturn("jwt-token");
 
         AuthResponse response = authService.register(request);
 
@@ -69,8 +72,12 @@ class AuthServiceTest {
 
         when(userRepository.existsByEmail("user@test.com")).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encoded");
-        when(userRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(jwtUtil.generateToken("user@test.com")).thenReturn("token");
+        when(userRepository.save(any())).thenAnswer(inv -> {
+            User u = inv.getArgument(0);
+            u.setId(1L);
+            return u;
+        });
+        when(jwtUtil.generateToken(1L, "user@test.com")).thenReturn("token");
 
         authService.register(request);
 
@@ -98,7 +105,10 @@ class AuthServiceTest {
         request.setEmail("user@test.com");
         request.setPassword("pass");
 
-        when(jwtUtil.generateToken("user@test.com")).thenReturn("jwt-token");
+        when(authenticationManager.authenticate(any())).thenReturn(
+                new UsernamePasswordAuthenticationToken(
+                        new AuthenticatedUser(7L, "user@test.com", null), null, List.of()));
+        when(jwtUtil.generateToken(7L, "user@test.com")).thenReturn("jwt-token");
 
         AuthResponse response = authService.login(request);
 
@@ -122,7 +132,7 @@ class AuthServiceTest {
             u.setId(1L);
             return u;
         });
-        when(jwtUtil.generateToken("newuser@gmail.com")).thenReturn("token");
+        when(jwtUtil.generateToken(1L, "newuser@gmail.com")).thenReturn("token");
 
         AuthResponse response = authService.googleLogin(request);
 
@@ -0,0 +1,62 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceAdjusterTest {
+
+    @Mock private AccountRepository accountRepository;
+
+    @InjectMocks
+    private BalanceAdjuster balanceAdjuster;
+
+    @Test
+    void adjust_shouldIssueSingleUpdate() {
+        when(accountRepository.adjustBalance(1L, 1L, new BigDecimal("-20.00"))).thenReturn(1);
+
+        balanceAdjuster.adjust(1L, 1L, new BigDecimal("-20.00"));
+
+        verify(accountRepository).adjustBalance(1L, 1L, new BigDecimal("-20.00"));
+        verify(accountRepository, never()).findById(any());
+    }
+
+    @Test
+    void adjust_shouldThrowWhenNoRowMatched() {
+        when(accountRepository.adjustBalance(2L, 1L, BigDecimal.TEN)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> balanceAdjuster.adjust(2L, 1L, BigDecimal.TEN));
+    }
+
+    @Test
+    void move_shouldNetDeltaOnSameAccount() {
+        when(accountRepository.adjustBalance(1L, 1L, new BigDecimal("-100.00"))).thenReturn(1);
+
+        balanceAdjuster.move(1L, new BigDecimal("-200.00"), 1L, new BigDecimal("-300.00"), 1L);
+
+        verify(accountRepository, times(1)).adjustBalance(any(), any(), any());
+    }
+
+    @Test
+    void move_shouldReverseOldAndApplyNewAcrossAccounts() {
+        when(accountRepository.adjustBalance(1L, 1L, new BigDecimal("-500.00"))).thenReturn(1);
+        when(accountRepository.adjustBalance(2L, 1L, new BigDecimal("500.00"))).thenReturn(1);
+
+        balanceAdjuster.move(1L, new BigDecimal("500.00"), 2L, new BigDecimal("500.00"), 1L);
+
+        verify(accountRepository).adjustBalance(1L, 1L, new BigDecimal("-500.00"));
+        verify(accountRepository).adjustBalance(2L, 1L, new BigDecimal("500.00"));
+    }
+}
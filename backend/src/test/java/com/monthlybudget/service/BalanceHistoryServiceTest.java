@@ -0,0 +1,98 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.BalanceHistoryResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.TimeseriesRepository;
+import com.monthlybudget.repository.projection.DailyBalance;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceHistoryServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 5);
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private TimeseriesRepository timeseriesRepository;
+    @Mock private AuthHelper authHelper;
+
+    @InjectMocks
+    private BalanceHistoryService balanceHistoryService;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(1L).build();
+        account = Account.builder().id(10L).initialBalance(new BigDecimal("100.00")).user(user).build();
+    }
+
+    @Test
+    void getHistory_shouldCarryClosingBalanceAcrossQuietDays() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(accountRepository.findById(10L)).thenReturn(Optional.of(account));
+        when(timeseriesRepository.dailyNetWithRunningTotal(10L, FROM, TO)).thenReturn(List.of(
+                new DailyBalance(FROM.minusDays(1), new BigDecimal("50.00"), new BigDecimal("50.00")),
+                new DailyBalance(LocalDate.of(2025, 3, 2), new BigDecimal("-20.00"), new BigDecimal("30.00")),
+                new DailyBalance(LocalDate.of(2025, 3, 4), new BigDecimal("5.00"), new BigDecimal("35.00"))));
+
+        BalanceHistoryResponse history = balanceHistoryService.getHistory(10L, FROM, TO);
+
+        assertEquals(new BigDecimal("150.00"), history.getOpeningBalance());
+        assertEquals(5, history.getPoints().size());
+        assertEquals(new BigDecimal("150.00"), history.getPoints().get(0).getClosingBalance());
+        assertEquals(new BigDecimal("130.00"), history.getPoints().get(1).getClosingBalance());
+        assertEquals(new BigDecimal("-20.00"), history.getPoints().get(1).getChange());
+        assertEquals(new BigDecimal("130.00"), history.getPoints().get(2).getClosingBalance());
+        assertEquals(0, history.getPoints().get(2).getChange().signum());
+        assertEquals(new BigDecimal("135.00"), history.getPoints().get(4).getClosingBalance());
+    }
+
+    @Test
+    void getHistory_withoutEarlierTransactions_shouldOpenAtInitialBalance() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(accountRepository.findById(10L)).thenReturn(Optional.of(account));
+        when(timeseriesRepository.dailyNetWithRunningTotal(10L, FROM, TO)).thenReturn(List.of());
+
+        BalanceHistoryResponse history = balanceHistoryService.getHistory(10L, FROM, TO);
+
+        assertEquals(new BigDecimal("100.00"), history.getOpeningBalance());
+        assertEquals(new BigDecimal("100.00"), history.getPoints().get(4).getClosingBalance());
+    }
+
+    @Test
+    void getHistory_shouldThrowWhenAccountNotOwned() {
+        when(authHelper.getCurrentUserId()).thenReturn(2L);
+        when(accountRepository.findById(10L)).thenReturn(Optional.of(account));
+
+        assertThrows(ResourceNotFoundException.class, () -> balanceHistoryService.getHistory(10L, FROM, TO));
+        verifyNoInteractions(timeseriesRepository);
+    }
+
+    @Test
+    void getHistory_shouldRejectOverlongRange() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(accountRepository.findById(10L)).thenReturn(Optional.of(account));
+
+        assertThrows(BadRequestException.class,
+                () -> balanceHistoryService.getHistory(10L, LocalDate.of(2020, 1, 1), TO));
+    }
+}
@@ -0,0 +1,70 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.projection.AccountAmount;
+import com.monthlybudget.repository.projection.AccountBalances;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceReconciliationServiceTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private DataVersionService dataVersionService;
+
+    @InjectMocks
+    private BalanceReconciliationService reconciliationService;
+
+    @Test
+    void check_shouldReportOnlyAccountsThatDrifted() {
+        when(accountRepository.findBalancesByIdBetween(1L, 10L)).thenReturn(List.of(
+                new AccountBalances(1L, new BigDecimal("100.00"), new BigDecimal("130.00")),
+                new AccountBalances(2L, new BigDecimal("50.00"), new BigDecimal("60.00")),
+                new AccountBalances(3L, new BigDecimal("0.00"), new BigDecimal("0.00"))));
+        when(expenseRepository.sumSignedByAccountIdBetween(1L, 10L)).thenReturn(List.of(
+                new AccountAmount(1L, new BigDecimal("-20.00")),
+                new AccountAmount(2L, new BigDecimal("-5.00"))));
+        when(incomeRepository.sumByAccountIdBetween(1L, 10L)).thenReturn(List.of(
+                new AccountAmount(1L, new BigDecimal("50.00"))));
+
+        BalanceReconciliationService.Chunk chunk = reconciliationService.check(1L, 10L);
+
+        assertEquals(3, chunk.accountsChecked());
+        assertEquals(List.of(new BalanceMismatch(2L, new BigDecimal("60.00"), new BigDecimal("45.00"))),
+                chunk.mismatches());
+        assertEquals(new BigDecimal("-15.00"), chunk.mismatches().getFirst().correction());
+    }
+
+    @Test
+    void check_shouldSkipLedgerQueriesForEmptyRange() {
+        when(accountRepository.findBalancesByIdBetween(1L, 10L)).thenReturn(List.of());
+
+        assertEquals(0, reconciliationService.check(1L, 10L).accountsChecked());
+        verifyNoInteractions(expenseRepository, incomeRepository);
+    }
+
+    @Test
+    void repair_shouldOnlyCorrectBalancesStillAsObserved() {
+        when(accountRepository.correctBalance(2L, new BigDecimal("60.00"), new BigDecimal("45.00"))).thenReturn(1);
+        when(accountRepository.correctBalance(3L, new BigDecimal("10.00"), new BigDecimal("0.00"))).thenReturn(0);
+
+        int repaired = reconciliationService.repair(List.of(
+                new BalanceMismatch(2L, new BigDecimal("60.00"), new BigDecimal("45.00")),
+                new BalanceMismatch(3L, new BigDecimal("10.00"), new BigDecimal("0.00"))));
+
+        assertEquals(1, repaired);
+    }
+}
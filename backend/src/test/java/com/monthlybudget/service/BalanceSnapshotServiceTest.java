@@ -0,0 +1,176 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.AccountBalanceResponse;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.BalanceSnapshot;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.BalanceSnapshotRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.repository.projection.AccountAmount;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceSnapshotServiceTest {
+
+    @Mock private BalanceSnapshotRepository balanceSnapshotRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private AuthHelper authHelper;
+
+    private BalanceSnapshotService balanceSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        // 00:30 on 1 April in Auckland is still 31 March in UTC; March must already count as closed
+        Clock clock = Clock.fixed(Instant.parse("2025-03-31T11:30:00Z"), ZoneId.of("Pacific/Auckland"));
+        balanceSnapshotService = new BalanceSnapshotService(balanceSnapshotRepository, accountRepository,
+                expenseRepository, incomeRepository, userRepository, authHelper,
+                TransactionOperations.withoutTransaction(), 2, clock);
+    }
+
+    @Test
+    void getBalance_shouldAddDeltasSinceNearestSnapshot() {
+        LocalDate asOf = LocalDate.of(2025, 3, 20);
+        LocalDate snapshotEnd = LocalDate.of(2025, 2, 28);
+        stubOwnedAccount();
+        when(balanceSnapshotRepository.findFirstByAccountIdAndMonthEndLessThanEqualOrderByMonthEndDesc(10L, asOf))
+                .thenReturn(Optional.of(BalanceSnapshot.builder().monthEnd(snapshotEnd)
+                        .closingBalance(new BigDecimal("700.00")).build()));
+        when(expenseRepository.sumSignedByAccountIdAndDateRange(10L, snapshotEnd, asOf)).thenReturn(new BigDecimal("-50.00"));
+        when(incomeRepository.sumByAccountIdAndDateRange(10L, snapshotEnd, asOf)).thenReturn(new BigDecimal("20.00"));
+
+        AccountBalanceResponse response = balanceSnapshotService.getBalance(10L, asOf);
+
+        assertEquals(new BigDecimal("670.00"), response.getBalance());
+        assertEquals(snapshotEnd, response.getSnapshotDate());
+    }
+
+    @Test
+    void getBalance_withoutSnapshot_shouldReplayFromInitialBalance() {
+        LocalDate asOf = LocalDate.of(2025, 3, 20);
+        stubOwnedAccount();
+        when(balanceSnapshotRepository.findFirstByAccountIdAndMonthEndLessThanEqualOrderByMonthEndDesc(10L, asOf))
+                .thenReturn(Optional.empty());
+        when(expenseRepository.sumSignedByAccountIdAndDateRange(10L, BalanceSnapshotService.BEGINNING, asOf))
+                .thenReturn(new BigDecimal("-30.00"));
+        when(incomeRepository.sumByAccountIdAndDateRange(10L, BalanceSnapshotService.BEGINNING, asOf))
+                .thenReturn(BigDecimal.ZERO);
+
+        AccountBalanceResponse response = balanceSnapshotService.getBalance(10L, asOf);
+
+        assertEquals(new BigDecimal("70.00"), response.getBalance());
+        assertNull(response.getSnapshotDate());
+    }
+
+    @Test
+    void shift_shouldSkipDatesNoSnapshotCanCover() {
+        balanceSnapshotService.shift(10L, LocalDate.of(2025, 4, 1), new BigDecimal("5.00"));
+
+        verifyNoInteractions(balanceSnapshotRepository);
+    }
+
+    @Test
+    void lastClosedMonth_shouldFollowConfiguredZone() {
+        assertEquals(YearMonth.of(2025, 3), balanceSnapshotService.lastClosedMonth());
+
+        balanceSnapshotService.shift(10L, LocalDate.of(2025, 3, 31), new BigDecimal("5.00"));
+
+        verify(balanceSnapshotRepository).shiftFrom(10L, LocalDate.of(2025, 3, 31), new BigDecimal("5.00"));
+    }
+
+    @Test
+    void move_withinSameMonth_shouldShiftNetChangeOnce() {
+        LocalDate date = LocalDate.of(2025, 1, 10);
+
+        balanceSnapshotService.move(10L, date, new BigDecimal("-200.00"), 10L, date.plusDays(5), new BigDecimal("-300.00"));
+
+        verify(balanceSnapshotRepository).shiftFrom(10L, date.plusDays(5), new BigDecimal("-100.00"));
+        verifyNoMoreInteractions(balanceSnapshotRepository);
+    }
+
+    @Test
+    void move_acrossMonths_shouldReverseOldAndApplyNew() {
+        LocalDate january = LocalDate.of(2025, 1, 10);
+        LocalDate february = LocalDate.of(2025, 2, 10);
+
+        balanceSnapshotService.move(10L, january, new BigDecimal("-200.00"), 10L, february, new BigDecimal("-200.00"));
+
+        verify(balanceSnapshotRepository).shiftFrom(10L, january, new BigDecimal("200.00"));
+        verify(balanceSnapshotRepository).shiftFrom(10L, february, new BigDecimal("-200.00"));
+    }
+
+    @Test
+    void snapshotMonth_shouldChainFromPreviousSnapshotAndReplayOnlyNewAccounts() {
+        YearMonth march = YearMonth.of(2025, 3);
+        LocalDate februaryEnd = LocalDate.of(2025, 2, 28);
+        LocalDate marchEnd = LocalDate.of(2025, 3, 31);
+
+        when(userRepository.lockIdsAfter(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(accountRepository.findInitialBalancesByUserIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new AccountAmount(1L, new BigDecimal("100.00")),
+                new AccountAmount(2L, new BigDecimal("40.00"))));
+        when(balanceSnapshotRepository.findClosingBalancesByMonthEndAndAccountIdIn(februaryEnd, Set.of(1L, 2L)))
+                .thenReturn(List.of(new AccountAmount(1L, new BigDecimal("500.00"))));
+        when(expenseRepository.sumSignedByAccountIdInAndDateRange(Set.of(1L), februaryEnd, marchEnd))
+                .thenReturn(List.of(new AccountAmount(1L, new BigDecimal("-25.00"))));
+        when(incomeRepository.sumByAccountIdInAndDateRange(Set.of(1L), februaryEnd, marchEnd)).thenReturn(List.of());
+        when(expenseRepository.sumSignedByAccountIdInAndDateRange(List.of(2L), BalanceSnapshotService.BEGINNING, marchEnd))
+                .thenReturn(List.of(new AccountAmount(2L, new BigDecimal("-10.00"))));
+        when(incomeRepository.sumByAccountIdInAndDateRange(List.of(2L), BalanceSnapshotService.BEGINNING, marchEnd))
+                .thenReturn(List.of(new AccountAmount(2L, new BigDecimal("5.00"))));
+        when(accountRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(0)).user(new User()).build());
+        // A full batch means there may be more users; the next one comes back short and ends the run
+        when(userRepository.lockIdsAfter(2L, 2)).thenReturn(List.of(3L));
+        when(accountRepository.findInitialBalancesByUserIdIn(List.of(3L))).thenReturn(List.of());
+
+        int written = balanceSnapshotService.snapshotMonth(march);
+
+        assertEquals(2, written);
+        verify(balanceSnapshotRepository).deleteByMonthEndAndAccountIdIn(marchEnd, Set.of(1L, 2L));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BalanceSnapshot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(balanceSnapshotRepository).saveAll(saved.capture());
+        List<BalanceSnapshot> snapshots = saved.getValue().stream()
+                .sorted(Comparator.comparing(s -> s.getAccount().getId()))
+                .toList();
+        assertEquals(new BigDecimal("475.00"), snapshots.get(0).getClosingBalance());
+        assertEquals(new BigDecimal("35.00"), snapshots.get(1).getClosingBalance());
+        assertEquals(marchEnd, snapshots.get(1).getMonthEnd());
+        verify(userRepository, never()).lockIdsAfter(eq(3L), anyInt());
+    }
+
+    private void stubOwnedAccount() {
+        User user = User.builder().id(1L).build();
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(accountRepository.findById(10L)).thenReturn(Optional.of(
+                Account.builder().id(10L).initialBalance(new BigDecimal("100.00")).user(user).build()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.BootstrapResponse;
+import com.monthlybudget.dto.response.ExpenseResponse;
+import com.monthlybudget.dto.response.IncomeResponse;
+import com.monthlybudget.exception.ResourceNotFoundException;
+import com.monthlybudget.mapper.AccountMapper;
+import com.monthlybudget.mapper.CategoryMapper;
+import com.monthlybudget.mapper.GoalMapper;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.GoalRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BootstrapServiceTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private GoalRepository goalRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private AccountMapper accountMapper;
+    @Mock private CategoryMapper categoryMapper;
+    @Mock private GoalMapper goalMapper;
+    @Mock private AuthHelper authHelper;
+
+    @InjectMocks
+    private BootstrapService bootstrapService;
+
+    @BeforeEach
+    void setUp() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+    }
+
+    @Test
+    void getForCurrentUser_shouldLoadEverySectionForResolvedUser() {
+        ExpenseResponse first = expense(3L, LocalDate.of(2025, 3, 10));
+        ExpenseResponse second = expense(2L, LocalDate.of(2025, 3, 9));
+        ExpenseResponse extra = expense(1L, LocalDate.of(2025, 3, 8));
+        IncomeResponse income = new IncomeResponse();
+        when(expenseRepository.findFirstPage(1L, Limit.of(3))).thenReturn(List.of(first, second, extra));
+        when(incomeRepository.findFirstPage(1L, Limit.of(3))).thenReturn(List.of(income));
+
+        BootstrapResponse response = bootstrapService.getForCurrentUser(2);
+
+        assertEquals(List.of(first, second), response.getExpenses().getItems());
+        assertEquals(new TransactionCursor(LocalDate.of(2025, 3, 9), 2L).encode(),
+                response.getExpenses().getNextCursor());
+        assertEquals(List.of(income), response.getIncomes().getItems());
+        assertNull(response.getIncomes().getNextCursor());
+        verify(accountRepository).findByUserId(1L);
+        verify(categoryRepository).findByUserId(1L);
+        verify(goalRepository).findByUserId(1L);
+        verify(authHelper, times(1)).getCurrentUserId();
+    }
+
+    @Test
+    void getForCurrentUser_shouldRethrowFailedRead() {
+        when(goalRepository.findByUserId(1L)).thenThrow(new ResourceNotFoundException("User", 1L));
+
+        assertThrows(ResourceNotFoundException.class, () -> bootstrapService.getForCurrentUser(20));
+    }
+
+    private ExpenseResponse expense(Long id, LocalDate date) {
+        ExpenseResponse row = new ExpenseResponse();
+        row.setId(id);
+        row.setDate(date);
+        return row;
+    }
+}
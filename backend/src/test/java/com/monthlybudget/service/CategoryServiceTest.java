@@ -7,6 +7,7 @@ import com.monthlybudget.mapper.CategoryMapper;
 import com.monthlybudget.model.Category;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
 import com.monthlybudget.security.AuthHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,8 +27,10 @@ import static org.mockito.Mockito.*;
 class CategoryServiceTest {
 
     @Mock private CategoryRepository categoryRepository;
+    @Mock private MonthlyRollupRepository monthlyRollupRepository;
     @Mock private CategoryMapper categoryMapper;
     @Mock private AuthHelper authHelper;
+    @Mock private DataVersionService dataVersionService;
 
     @InjectMocks
     private CategoryService categoryService;
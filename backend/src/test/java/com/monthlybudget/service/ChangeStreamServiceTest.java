@@ -0,0 +1,144 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.BalanceChange;
+import com.monthlybudget.model.ChangeAction;
+import com.monthlybudget.model.SyncEntityType;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeStreamServiceTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private AuthHelper authHelper;
+    @Mock private ChangeRelay changeRelay;
+
+    private ChangeStreamService changeStreamService;
+
+    @BeforeEach
+    void setUp() {
+        changeStreamService = new ChangeStreamService(accountRepository, authHelper, changeRelay, new DirectExecutor(),
+                2, 60_000);
+    }
+
+    @Test
+    void subscribeCurrentUser_shouldCloseOldestStreamOverLimit() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+
+        changeStreamService.subscribeCurrentUser();
+        changeStreamService.subscribeCurrentUser();
+        changeStreamService.subscribeCurrentUser();
+
+        assertEquals(2, changeStreamService.connectionCount(1L));
+    }
+
+    @Test
+    void publish_shouldSkipBalanceLookupWhenUserIsNotListening() {
+        changeStreamService.publish(1L, SyncEntityType.EXPENSE, ChangeAction.CREATED, 5L, 3L, List.of(10L));
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void publish_shouldReadBalancesForListeningUser() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(accountRepository.findBalanceChangesByIdIn(List.of(10L)))
+                .thenReturn(List.of(new BalanceChange(10L, new BigDecimal("250.00"))));
+        changeStreamService.subscribeCurrentUser();
+
+        changeStreamService.publish(1L, SyncEntityType.EXPENSE, ChangeAction.CREATED, 5L, 3L, List.of(10L));
+
+        verify(accountRepository).findBalanceChangesByIdIn(List.of(10L));
+        assertEquals(1, changeStreamService.connectionCount(1L));
+    }
+
+    @Test
+    void publish_shouldWaitForCommit() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        changeStreamService.subscribeCurrentUser();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changeStreamService.publish(1L, SyncEntityType.INCOME, ChangeAction.DELETED, 5L, 3L, List.of(10L));
+            verifyNoInteractions(accountRepository);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(accountRepository).findBalanceChangesByIdIn(List.of(10L));
+    }
+
+    @Test
+    void publish_withRelay_shouldLeaveDeliveryToRelay() {
+        when(changeRelay.isActive()).thenReturn(true);
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        changeStreamService.subscribeCurrentUser();
+
+        changeStreamService.publish(1L, SyncEntityType.GOAL, ChangeAction.UPDATED, 5L, 3L, List.of());
+
+        verify(changeRelay).send(new ChangeNotice(1L, SyncEntityType.GOAL, ChangeAction.UPDATED, 5L, 3L, List.of()));
+    }
+
+    @Test
+    void deliver_shouldSendRelayedNoticeToListeningUser() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(accountRepository.findBalanceChangesByIdIn(List.of(10L, 11L))).thenReturn(List.of());
+        changeStreamService.subscribeCurrentUser();
+        String payload = new ChangeNotice(1L, SyncEntityType.EXPENSE, ChangeAction.UPDATED, 5L, 3L,
+                List.of(10L, 11L)).encode();
+
+        changeStreamService.deliver(ChangeNotice.decode(payload));
+
+        verify(accountRepository).findBalanceChangesByIdIn(List.of(10L, 11L));
+    }
+
+    /** Runs sends on the calling thread so the test sees their effects immediately. */
+    private static final class DirectExecutor extends AbstractExecutorService {
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
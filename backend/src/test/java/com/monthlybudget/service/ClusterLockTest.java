@@ -0,0 +1,79 @@
+package com.monthlybudget.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterLockTest {
+
+    @Mock private DataSource dataSource;
+    @Mock private Connection connection;
+    @Mock private DatabaseMetaData metaData;
+    @Mock private PreparedStatement statement;
+    @Mock private ResultSet resultSet;
+
+    @InjectMocks
+    private ClusterLock clusterLock;
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+    }
+
+    @Test
+    void runExclusively_shouldRunAndUnlockWhenLockIsFree() throws Exception {
+        postgresLockResults(true, true);
+
+        assertTrue(clusterLock.runExclusively("job", runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+        verify(connection).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+        verify(connection).close();
+    }
+
+    @Test
+    void runExclusively_shouldSkipWhenAnotherNodeHoldsLock() throws Exception {
+        postgresLockResults(false);
+
+        assertFalse(clusterLock.runExclusively("job", runs::incrementAndGet));
+
+        assertEquals(0, runs.get());
+        verify(connection, never()).prepareStatement("SELECT pg_advisory_unlock(hashtext(?))");
+    }
+
+    @Test
+    void runExclusively_shouldRunWithoutLockOutsidePostgres() throws Exception {
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+        assertTrue(clusterLock.runExclusively("job", runs::incrementAndGet));
+
+        assertEquals(1, runs.get());
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    private void postgresLockResults(Boolean first, Boolean... rest) throws Exception {
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(first, rest);
+    }
+}
@@ -0,0 +1,157 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.request.ExpenseRequest;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.Category;
+import com.monthlybudget.model.Expense;
+import com.monthlybudget.model.MonthlyRollup;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Two edits of the same expense race: the first is held inside its transaction, after it has taken the
+ * user's lock, while the second starts. Whichever order they commit in, the balance and the rollup must
+ * match the amount that was written last.
+ */
+@SpringBootTest
+class ConcurrentExpenseUpdateTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 15);
+
+    @Autowired private ExpenseService expenseService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private MonthlyRollupRepository monthlyRollupRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockitoSpyBean
+    private BalanceAdjuster balanceAdjuster;
+
+    private AuthenticatedUser principal;
+    private Long accountId;
+    private Long categoryId;
+    private Long expenseId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder().email("race@test.com").password("x").build());
+            Account account = accountRepository.save(Account.builder()
+                    .name("Main")
+                    .initialBalance(new BigDecimal("100.00"))
+                    .currentBalance(new BigDecimal("90.00"))
+                    .user(user)
+                    .build());
+            Category category = categoryRepository.save(
+                    Category.builder().name("Food").color("#000000").user(user).build());
+            expenseId = expenseRepository.save(Expense.builder()
+                    .amount(new BigDecimal("10.00"))
+                    .date(DATE)
+                    .account(account)
+                    .user(user)
+                    .category(category)
+                    .build()).getId();
+            monthlyRollupRepository.save(MonthlyRollup.builder()
+                    .user(user)
+                    .account(account)
+                    .category(category)
+                    .monthStart(DATE.withDayOfMonth(1))
+                    .expenseTotal(new BigDecimal("10.00"))
+                    .expenseCount(1L)
+                    .build());
+
+            principal = new AuthenticatedUser(user.getId(), user.getEmail(), null);
+            accountId = account.getId();
+            categoryId = category.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            expenseRepository.deleteAllInBatch();
+            monthlyRollupRepository.deleteAllInBatch();
+            accountRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    void update_shouldNetConcurrentEditsAgainstTheLatestAmount() throws Exception {
+        CountDownLatch firstHoldsLock = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicBoolean held = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (held.compareAndSet(false, true)) {
+                firstHoldsLock.countDown();
+                assertTrue(releaseFirst.await(10, TimeUnit.SECONDS));
+            }
+            return invocation.callRealMethod();
+        }).when(balanceAdjuster).move(any(), any(), any(), any(), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> updateAs(new BigDecimal("30.00")));
+            assertTrue(firstHoldsLock.await(10, TimeUnit.SECONDS));
+            Future<?> second = executor.submit(() -> updateAs(new BigDecimal("50.00")));
+            // Give the second edit time to read the expense if it could do so before queueing for the lock
+            Thread.sleep(300);
+            releaseFirst.countDown();
+
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(new BigDecimal("50.00"), expenseRepository.findById(expenseId).orElseThrow().getAmount());
+        assertEquals(new BigDecimal("50.00"), accountRepository.findById(accountId).orElseThrow().getCurrentBalance());
+        assertEquals(new BigDecimal("50.00"), monthlyRollupRepository.findAll().getFirst().getExpenseTotal());
+    }
+
+    private void updateAs(BigDecimal amount) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        try {
+            ExpenseRequest request = new ExpenseRequest();
+            request.setAmount(amount);
+            request.setDate(DATE);
+            request.setAccountId(accountId);
+            request.setCategoryId(categoryId);
+            expenseService.update(expenseId, request);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.DashboardSummaryResponse;
+import com.monthlybudget.dto.response.MonthlySpendingResponse;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.projection.MonthlyTotal;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private AuthHelper authHelper;
+
+    private DashboardService dashboardService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Still March in UTC, already April 1st in the configured zone
+        Clock clock = Clock.fixed(Instant.parse("2025-03-31T11:30:00Z"), ZoneId.of("Pacific/Auckland"));
+        dashboardService = new DashboardService(accountRepository, expenseRepository, incomeRepository, authHelper, clock);
+        user = User.builder().id(1L).email("user@test.com").build();
+    }
+
+    @Test
+    void getSummary_shouldBucketMonthlyTotalsAndZeroFillGaps() {
+        YearMonth now = YearMonth.of(2025, 4);
+        YearMonth twoMonthsAgo = now.minusMonths(2);
+
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(accountRepository.findIdsByUserId(1L)).thenReturn(List.of(1L, 2L));
+        when(accountRepository.sumCurrentBalanceByIdIn(List.of(1L, 2L))).thenReturn(new BigDecimal("1500.00"));
+        when(expenseRepository.sumSpentByAccountIdInAndDateBetween(any(), any(), any())).thenReturn(new BigDecimal("200.00"));
+        when(incomeRepository.sumByAccountIdInAndDateBetween(any(), any(), any())).thenReturn(new BigDecimal("900.00"));
+        when(expenseRepository.sumSpentByCategory(any())).thenReturn(List.of());
+        when(expenseRepository.sumByMonthSince(any(), any())).thenReturn(List.of(
+                new MonthlyTotal(now.getYear(), now.getMonthValue(), false, new BigDecimal("200.00")),
+                new MonthlyTotal(twoMonthsAgo.getYear(), twoMonthsAgo.getMonthValue(), true, new BigDecimal("30.00"))
+        ));
+        when(expenseRepository.findRecentByAccountIdIn(any(), any())).thenReturn(List.of());
+
+        DashboardSummaryResponse summary = dashboardService.getSummary(null);
+
+        assertEquals(2, summary.getAccountCount());
+        assertEquals(new BigDecimal("1500.00"), summary.getTotalBalance());
+
+        List<MonthlySpendingResponse> months = summary.getMonthlySpending();
+        assertEquals(6, months.size());
+        assertEquals(now, months.get(5).getMonth());
+        assertEquals(new BigDecimal("200.00"), months.get(5).getSpent());
+        assertEquals(new BigDecimal("30.00"), months.get(3).getReturns());
+        assertEquals(BigDecimal.ZERO, months.get(4).getSpent());
+        verify(expenseRepository).sumSpentByAccountIdInAndDateBetween(
+                List.of(1L, 2L), LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30));
+        verify(expenseRepository).sumByMonthSince(List.of(1L, 2L), LocalDate.of(2024, 11, 1));
+    }
+
+    @Test
+    void getSummary_shouldIgnoreAccountsNotOwnedByUser() {
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(accountRepository.findIdsByUserIdAndIdIn(1L, List.of(99L))).thenReturn(List.of());
+
+        DashboardSummaryResponse summary = dashboardService.getSummary(List.of(99L));
+
+        assertEquals(0, summary.getAccountCount());
+        assertEquals(BigDecimal.ZERO, summary.getTotalBalance());
+        verifyNoInteractions(expenseRepository, incomeRepository);
+    }
+}
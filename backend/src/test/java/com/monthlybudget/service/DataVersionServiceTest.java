@@ -0,0 +1,150 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.repository.TombstoneRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataVersionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-15T10:00:00Z");
+
+    @Mock private UserRepository userRepository;
+    @Mock private TombstoneRepository tombstoneRepository;
+    @Mock private AuthHelper authHelper;
+    @Mock private ChangeRelay changeRelay;
+
+    private DataVersionService dataVersionService;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionService = serviceAt(NOW);
+    }
+
+    @Test
+    void current_shouldServeRepeatReadsFromCache() {
+        when(userRepository.findDataVersionOnPrimaryById(1L)).thenReturn(Optional.of(7L));
+
+        assertEquals(7L, dataVersionService.current(1L));
+        assertEquals(7L, dataVersionService.current(1L));
+
+        verify(userRepository, times(1)).findDataVersionOnPrimaryById(1L);
+    }
+
+    @Test
+    void bump_shouldIncrementAndForgetCachedVersion() {
+        when(userRepository.findDataVersionOnPrimaryById(1L)).thenReturn(Optional.of(7L), Optional.of(8L));
+        when(userRepository.findDataVersionById(1L)).thenReturn(Optional.of(8L));
+        dataVersionService.current(1L);
+
+        assertEquals(8L, dataVersionService.bump(1L));
+
+        verify(userRepository).incrementDataVersion(1L);
+        verify(changeRelay, never()).sendVersionBump(any());
+        assertEquals(8L, dataVersionService.current(1L));
+    }
+
+    @Test
+    void bump_shouldTellOtherNodesThroughActiveRelay() {
+        when(changeRelay.isActive()).thenReturn(true);
+        when(userRepository.findDataVersionById(1L)).thenReturn(Optional.of(8L));
+
+        dataVersionService.bump(1L);
+        dataVersionService.bumpForAccounts(List.of(5L));
+
+        verify(changeRelay).sendVersionBump(1L);
+        verify(changeRelay).sendVersionBumpForAll();
+    }
+
+    @Test
+    void current_shouldForgetVersionBumpedOnAnotherNode() {
+        when(changeRelay.isActive()).thenReturn(true);
+        when(changeRelay.isListening()).thenReturn(true);
+        when(userRepository.findDataVersionOnPrimaryById(1L)).thenReturn(Optional.of(7L), Optional.of(9L));
+        dataVersionService.listenForOtherNodes();
+        ArgumentCaptor<ChangeRelay.VersionListener> listener = ArgumentCaptor.forClass(ChangeRelay.VersionListener.class);
+        verify(changeRelay).addVersionListener(listener.capture());
+
+        assertEquals(7L, dataVersionService.current(1L));
+        assertEquals(7L, dataVersionService.current(1L));
+        listener.getValue().bumped(1L);
+
+        assertEquals(9L, dataVersionService.current(1L));
+    }
+
+    @Test
+    void current_shouldNotUseCacheWhileRelayIsNotListening() {
+        when(changeRelay.isActive()).thenReturn(true);
+        when(changeRelay.isListening()).thenReturn(false);
+        when(userRepository.findDataVersionOnPrimaryById(1L)).thenReturn(Optional.of(7L), Optional.of(9L));
+
+        assertEquals(7L, dataVersionService.current(1L));
+        assertEquals(9L, dataVersionService.current(1L));
+    }
+
+    @Test
+    void etagForCurrentUser_shouldBeWeakAndScopedToUser() {
+        when(authHelper.getCurrentUserId()).thenReturn(3L);
+        when(userRepository.findDataVersionOnPrimaryById(3L)).thenReturn(Optional.of(12L));
+
+        assertEquals("W/\"3-12\"", dataVersionService.etagForCurrentUser());
+    }
+
+    @Test
+    void current_shouldNotCacheVersionReadBeforeConcurrentCommit() {
+        when(userRepository.findDataVersionOnPrimaryById(1L)).thenAnswer(inv -> {
+            // A write commits while this read is in flight
+            dataVersionService.bumpForAccounts(List.of(5L));
+            return Optional.of(7L);
+        }).thenReturn(Optional.of(8L));
+
+        assertEquals(7L, dataVersionService.current(1L));
+        assertEquals(8L, dataVersionService.current(1L));
+    }
+
+    @Test
+    void freshEtagForCurrentUser_shouldNeitherUseNorFillCache() {
+        when(authHelper.getCurrentUserId()).thenReturn(3L);
+        when(userRepository.findDataVersionOnPrimaryById(3L)).thenReturn(Optional.of(12L));
+        // A lagging replica still answers with an older version
+        when(userRepository.findDataVersionById(3L)).thenReturn(Optional.of(11L));
+
+        assertEquals("W/\"3-12\"", dataVersionService.etagForCurrentUser());
+        assertEquals("W/\"3-11\"", dataVersionService.freshEtagForCurrentUser());
+        assertEquals("W/\"3-12\"", dataVersionService.etagForCurrentUser());
+    }
+
+    @Test
+    void current_shouldRereadOnceStale() {
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(0L, 500L, 1500L);
+        DataVersionService service =
+                new DataVersionService(userRepository, tombstoneRepository, authHelper, changeRelay, 1000, clock);
+        when(userRepository.findDataVersionOnPrimaryById(1L)).thenReturn(Optional.of(7L), Optional.of(9L));
+
+        assertEquals(7L, service.current(1L));
+        assertEquals(7L, service.current(1L));
+        assertEquals(9L, service.current(1L));
+    }
+
+    private DataVersionService serviceAt(Instant instant) {
+        return new DataVersionService(userRepository, tombstoneRepository, authHelper, changeRelay, 1000,
+                Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
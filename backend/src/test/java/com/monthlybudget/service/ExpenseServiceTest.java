@@ -1,7 +1,9 @@
 package com.monthlybudget.service;
 
 import com.monthlybudget.dto.request.ExpenseRequest;
+import com.monthlybudget.dto.response.CursorPageResponse;
 import com.monthlybudget.dto.response.ExpenseResponse;
+import com.monthlybudget.exception.BadRequestException;
 import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.ExpenseMapper;
 import com.monthlybudget.model.Account;
@@ -17,7 +19,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -31,11 +36,20 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ExpenseServiceTest {
 
+    private static final LocalDate EXPENSE_DATE = LocalDate.of(2025, 3, 15);
+
     @Mock private ExpenseRepository expenseRepository;
     @Mock private AccountRepository accountRepository;
     @Mock private CategoryRepository categoryRepository;
     @Mock private ExpenseMapper expenseMapper;
     @Mock private AuthHelper authHelper;
+    @Mock private BalanceAdjuster balanceAdjuster;
+    @Mock private MonthlyRollupService monthlyRollupService;
+    @Mock private BalanceSnapshotService balanceSnapshotService;
+    @Mock private DataVersionService dataVersionService;
+    @Mock private ChangeStreamService changeStreamService;
+    @Spy private OptimisticRetry optimisticRetry =
+            new OptimisticRetry(TransactionOperations.withoutTransaction(), 3, 0);
 
     @InjectMocks
     private ExpenseService expenseService;
@@ -61,8 +75,8 @@ class ExpenseServiceTest {
     @Test
     void create_shouldSubtractFromBalance() {
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
         when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(expenseMapper.toResponse(any())).thenReturn(new ExpenseResponse());
 
@@ -76,15 +90,18 @@ class ExpenseServiceTest {
 
         expenseService.create(request);
 
-        assertEquals(new BigDecimal("800.00"), account.getCurrentBalance());
-        verify(accountRepository).save(account);
+        verify(balanceAdjuster).adjust(1L, 1L, new BigDecimal("-200.00"));
+        verify(accountRepository, never()).save(any());
+        verify(monthlyRollupService).apply(1L, RollupKey.of(1L, 1L, request.getDate()),
+                RollupDelta.expense(new BigDecimal("200.00"), false));
+        verify(dataVersionService).bump(1L);
     }
 
     @Test
     void create_withReturnFlag_shouldAddToBalance() {
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
         when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(expenseMapper.toResponse(any())).thenReturn(new ExpenseResponse());
 
@@ -98,22 +115,22 @@ class ExpenseServiceTest {
 
         expenseService.create(request);
 
-        assertEquals(new BigDecimal("1050.00"), account.getCurrentBalance());
+        verify(balanceAdjuster).adjust(1L, 1L, new BigDecimal("50.00"));
     }
 
     @Test
     void create_shouldThrowWhenAccountNotOwnedByUser() {
-        User otherUser = User.builder().id(2L).email("other@test.com").build();
-        Account otherAccount = Account.builder().id(2L).user(otherUser).build();
-
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(accountRepository.findById(2L)).thenReturn(Optional.of(otherAccount));
+        doThrow(new ResourceNotFoundException("Account", 2L))
+                .when(balanceAdjuster).adjust(eq(2L), eq(1L), any());
 
         ExpenseRequest request = new ExpenseRequest();
+        request.setAmount(new BigDecimal("10.00"));
         request.setAccountId(2L);
         request.setCategoryId(1L);
 
         assertThrows(ResourceNotFoundException.class, () -> expenseService.create(request));
+        verify(expenseRepository, never()).save(any());
     }
 
     @Test
@@ -122,10 +139,10 @@ class ExpenseServiceTest {
         Category otherCategory = Category.builder().id(2L).user(otherUser).build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
         when(categoryRepository.findById(2L)).thenReturn(Optional.of(otherCategory));
 
         ExpenseRequest request = new ExpenseRequest();
+        request.setAmount(new BigDecimal("10.00"));
         request.setAccountId(1L);
         request.setCategoryId(2L);
 
@@ -141,6 +158,8 @@ class ExpenseServiceTest {
                 .amount(new BigDecimal("200.00"))
                 .isReturn(false)
                 .account(account)
+                .category(category)
+                .date(EXPENSE_DATE)
                 .build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
@@ -149,7 +168,10 @@ class ExpenseServiceTest {
         expenseService.delete(1L);
 
         // Deleting a normal expense should ADD back to balance
-        assertEquals(new BigDecimal("1200.00"), account.getCurrentBalance());
+        verify(balanceAdjuster).adjust(1L, 1L, new BigDecimal("200.00"));
+        verify(monthlyRollupService).apply(1L, RollupKey.of(1L, 1L, EXPENSE_DATE),
+                RollupDelta.expense(new BigDecimal("200.00"), false).negate());
+        verify(balanceSnapshotService).shift(1L, EXPENSE_DATE, new BigDecimal("200.00"));
         verify(expenseRepository).delete(expense);
     }
 
@@ -160,6 +182,8 @@ class ExpenseServiceTest {
                 .amount(new BigDecimal("50.00"))
                 .isReturn(true)
                 .account(account)
+                .category(category)
+                .date(EXPENSE_DATE)
                 .build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
@@ -168,7 +192,7 @@ class ExpenseServiceTest {
         expenseService.delete(1L);
 
         // Deleting a return should SUBTRACT from balance
-        assertEquals(new BigDecimal("950.00"), account.getCurrentBalance());
+        verify(balanceAdjuster).adjust(1L, 1L, new BigDecimal("-50.00"));
     }
 
     @Test
@@ -181,6 +205,7 @@ class ExpenseServiceTest {
         when(expenseRepository.findById(1L)).thenReturn(Optional.of(expense));
 
         assertThrows(ResourceNotFoundException.class, () -> expenseService.delete(1L));
+        verifyNoInteractions(balanceAdjuster);
     }
 
     // --- UPDATE ---
@@ -192,11 +217,13 @@ class ExpenseServiceTest {
                 .amount(new BigDecimal("200.00"))
                 .isReturn(false)
                 .account(account)
+                .category(category)
+                .date(EXPENSE_DATE)
                 .build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
         when(expenseRepository.findById(1L)).thenReturn(Optional.of(expense));
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
         when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(expenseMapper.toResponse(any())).thenReturn(new ExpenseResponse());
@@ -211,8 +238,12 @@ class ExpenseServiceTest {
 
         expenseService.update(1L, request);
 
-        // Start: 1000, reverse old (-200 → +200 = 1200), apply new (-300 = 900)
-        assertEquals(new BigDecimal("900.00"), account.getCurrentBalance());
+        verify(balanceAdjuster).move(1L, new BigDecimal("-200.00"), 1L, new BigDecimal("-300.00"), 1L);
+        verify(monthlyRollupService).move(1L,
+                RollupKey.of(1L, 1L, EXPENSE_DATE), RollupDelta.expense(new BigDecimal("200.00"), false),
+                RollupKey.of(1L, 1L, request.getDate()), RollupDelta.expense(new BigDecimal("300.00"), false));
+        verify(balanceSnapshotService).move(1L, EXPENSE_DATE, new BigDecimal("-200.00"),
+                1L, request.getDate(), new BigDecimal("-300.00"));
     }
 
     @Test
@@ -222,11 +253,13 @@ class ExpenseServiceTest {
                 .amount(new BigDecimal("100.00"))
                 .isReturn(true)  // was a return
                 .account(account)
+                .category(category)
+                .date(EXPENSE_DATE)
                 .build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
         when(expenseRepository.findById(1L)).thenReturn(Optional.of(expense));
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
         when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
         when(expenseRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(expenseMapper.toResponse(any())).thenReturn(new ExpenseResponse());
@@ -241,8 +274,33 @@ class ExpenseServiceTest {
 
         expenseService.update(1L, request);
 
-        // Start: 1000, reverse old return (-100 = 900), apply new expense (-100 = 800)
-        assertEquals(new BigDecimal("800.00"), account.getCurrentBalance());
+        verify(balanceAdjuster).move(1L, new BigDecimal("100.00"), 1L, new BigDecimal("-100.00"), 1L);
+        assertFalse(expense.getIsReturn());
+    }
+
+    @Test
+    void update_shouldThrowWhenTargetAccountNotOwned() {
+        Expense expense = Expense.builder()
+                .id(1L)
+                .amount(new BigDecimal("100.00"))
+                .isReturn(false)
+                .account(account)
+                .category(category)
+                .date(EXPENSE_DATE)
+                .build();
+
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(expenseRepository.findById(1L)).thenReturn(Optional.of(expense));
+        doThrow(new ResourceNotFoundException("Account", 2L))
+                .when(balanceAdjuster).move(any(), any(), eq(2L), any(), eq(1L));
+
+        ExpenseRequest request = new ExpenseRequest();
+        request.setAmount(new BigDecimal("100.00"));
+        request.setAccountId(2L);
+        request.setCategoryId(1L);
+
+        assertThrows(ResourceNotFoundException.class, () -> expenseService.update(1L, request));
+        verify(expenseRepository, never()).save(any());
     }
 
     // --- GET ---
@@ -250,14 +308,13 @@ class ExpenseServiceTest {
     @Test
     void getAllForCurrentUser_shouldReturnMappedList() {
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(expenseRepository.findByAccountUserIdOrderByDateDescIdDesc(1L))
-                .thenReturn(List.of());
-        when(expenseMapper.toResponseList(any())).thenReturn(List.of());
+        when(expenseRepository.findResponsesByUserId(1L)).thenReturn(List.of());
 
         List<ExpenseResponse> result = expenseService.getAllForCurrentUser();
 
         assertNotNull(result);
-        verify(expenseRepository).findByAccountUserIdOrderByDateDescIdDesc(1L);
+        verify(expenseRepository).findResponsesByUserId(1L);
+        verifyNoInteractions(expenseMapper);
     }
 
     @Test
@@ -267,4 +324,50 @@ class ExpenseServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> expenseService.getById(999L));
     }
+
+    // --- PAGE ---
+
+    @Test
+    void getPageForCurrentUser_shouldReturnNextCursorWhenMoreRowsExist() {
+        ExpenseResponse first = pageRow(3L, LocalDate.of(2025, 3, 10));
+        ExpenseResponse second = pageRow(2L, LocalDate.of(2025, 3, 9));
+        ExpenseResponse extra = pageRow(1L, LocalDate.of(2025, 3, 8));
+
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(expenseRepository.findFirstPage(1L, Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        CursorPageResponse<ExpenseResponse> page = expenseService.getPageForCurrentUser(null, 2);
+
+        assertEquals(List.of(first, second), page.getItems());
+        assertNotNull(page.getNextCursor());
+        expenseService.getPageForCurrentUser(page.getNextCursor(), 2);
+        verify(expenseRepository).findPageAfter(1L, LocalDate.of(2025, 3, 9), 2L, Limit.of(3));
+    }
+
+    @Test
+    void getPageForCurrentUser_shouldOmitCursorOnLastPage() {
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(expenseRepository.findFirstPage(1L, Limit.of(3)))
+                .thenReturn(List.of(pageRow(1L, LocalDate.of(2025, 3, 8))));
+
+        CursorPageResponse<ExpenseResponse> page = expenseService.getPageForCurrentUser(null, 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getPageForCurrentUser_shouldRejectMalformedCursor() {
+        when(authHelper.getCurrentUser()).thenReturn(user);
+
+        assertThrows(BadRequestException.class,
+                () -> expenseService.getPageForCurrentUser("not-a-cursor", 20));
+    }
+
+    private ExpenseResponse pageRow(Long id, LocalDate date) {
+        ExpenseResponse row = new ExpenseResponse();
+        row.setId(id);
+        row.setDate(date);
+        return row;
+    }
 }
\ No newline at end of file
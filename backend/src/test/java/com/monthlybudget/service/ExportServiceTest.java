@@ -0,0 +1,116 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.ExpenseResponse;
+import com.monthlybudget.dto.response.IncomeResponse;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 12, 31);
+
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private AuthHelper authHelper;
+
+    @InjectMocks
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        when(authHelper.getCurrentUser()).thenReturn(User.builder().id(1L).email("user@test.com").build());
+        when(expenseRepository.streamForExport(1L, FROM, TO)).thenReturn(Stream.of(
+                new ExpenseResponse(10L, new BigDecimal("12.50"), "Coffee, \"large\"", LocalDate.of(2025, 3, 1),
+                        false, null, 1L, "Main", 2L, "Food", "#fff")));
+        when(incomeRepository.streamForExport(1L, FROM, TO)).thenReturn(Stream.of(
+                new IncomeResponse(20L, new BigDecimal("3000.00"), null, LocalDate.of(2025, 3, 5),
+                        null, 1L, "Main", null, null, null)));
+    }
+
+    @Test
+    void exportTransactions_csv_shouldWriteHeaderAndEscapeFields() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportTransactions(ExportFormat.CSV, FROM, TO, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("type,id,date,amount,isReturn,description,account,category", lines[0]);
+        assertEquals("expense,10,2025-03-01,12.50,false,\"Coffee, \"\"large\"\"\",Main,Food", lines[1]);
+        assertEquals("income,20,2025-03-05,3000.00,false,,Main,", lines[2]);
+    }
+
+    @Test
+    void exportTransactions_ndjson_shouldWriteOneObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportTransactions(ExportFormat.NDJSON, FROM, TO, out);
+
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertTrue(output.endsWith("}\n"), "last record must be terminated");
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"type\":\"expense\",\"id\":10,\"date\":\"2025-03-01\",\"amount\":12.50,\"isReturn\":false,"
+                + "\"description\":\"Coffee, \\\"large\\\"\",\"account\":\"Main\",\"category\":\"Food\"}", lines[0]);
+        assertEquals("{\"type\":\"income\",\"id\":20,\"date\":\"2025-03-05\",\"amount\":3000.00,\"isReturn\":false,"
+                + "\"description\":null,\"account\":\"Main\",\"category\":null}", lines[1]);
+    }
+
+    @Test
+    void exportTransactions_ndjson_shouldParseLineByLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.exportTransactions(ExportFormat.NDJSON, FROM, TO, out);
+
+        JsonMapper mapper = new JsonMapper();
+        List<JsonNode> records = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(out.toString(StandardCharsets.UTF_8)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                records.add(mapper.readTree(line));
+            }
+        }
+        assertEquals(2, records.size());
+        assertEquals("Coffee, \"large\"", records.get(0).get("description").asString());
+        assertEquals(20L, records.get(1).get("id").asLong());
+        assertTrue(records.get(1).get("category").isNull());
+    }
+
+    @Test
+    void exportTransactions_csv_shouldKeepTextFromRunningAsFormula() throws Exception {
+        when(expenseRepository.streamForExport(1L, FROM, TO)).thenReturn(Stream.of(
+                new ExpenseResponse(11L, new BigDecimal("1.00"), "=HYPERLINK(\"http://x\")", LocalDate.of(2025, 3, 2),
+                        false, null, 1L, "@Main", 2L, "-Food", "#fff")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportTransactions(ExportFormat.CSV, FROM, TO, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("expense,11,2025-03-02,1.00,false,\"'=HYPERLINK(\"\"http://x\"\")\",'@Main,'-Food", lines[1]);
+    }
+}
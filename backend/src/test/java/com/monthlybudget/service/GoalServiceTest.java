@@ -2,6 +2,7 @@ package com.monthlybudget.service;
 
 import com.monthlybudget.dto.request.GoalRequest;
 import com.monthlybudget.dto.response.GoalResponse;
+import com.monthlybudget.exception.ConflictException;
 import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.GoalMapper;
 import com.monthlybudget.model.Category;
@@ -15,7 +16,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,6 +35,10 @@ class GoalServiceTest {
     @Mock private CategoryRepository categoryRepository;
     @Mock private GoalMapper goalMapper;
     @Mock private AuthHelper authHelper;
+    @Mock private DataVersionService dataVersionService;
+    @Mock private ChangeStreamService changeStreamService;
+    @Spy private OptimisticRetry optimisticRetry =
+            new OptimisticRetry(TransactionOperations.withoutTransaction(), 3, 0);
 
     @InjectMocks
     private GoalService goalService;
@@ -148,4 +155,41 @@ class GoalServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> goalService.getById(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void create_withOtherUsersCategory_shouldThrow() {
+        Category foreign = Category.builder().id(9L).user(User.builder().id(2L).build()).build();
+
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(categoryRepository.findById(9L)).thenReturn(Optional.of(foreign));
+
+        GoalRequest request = new GoalRequest();
+        request.setName("Vacation");
+        request.setTargetAmount(new BigDecimal("5000.00"));
+        request.setCategoryId(9L);
+
+        assertThrows(ResourceNotFoundException.class, () -> goalService.create(request));
+        verify(goalRepository, never()).save(any());
+    }
+
+    @Test
+    void update_withStaleVersion_shouldThrowConflictWithoutRetrying() {
+        Goal goal = Goal.builder()
+                .id(1L).name("G").targetAmount(BigDecimal.TEN)
+                .currentAmount(BigDecimal.ZERO).user(user).version(3L)
+                .build();
+
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(goalRepository.findById(1L)).thenReturn(Optional.of(goal));
+
+        GoalRequest request = new GoalRequest();
+        request.setName("Renamed");
+        request.setTargetAmount(BigDecimal.TEN);
+        request.setVersion(2L);
+
+        assertThrows(ConflictException.class, () -> goalService.update(1L, request));
+        assertEquals("G", goal.getName());
+        verify(goalRepository, times(1)).findById(1L);
+        verify(goalRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,189 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.ImportResultResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.Category;
+import com.monthlybudget.model.Expense;
+import com.monthlybudget.model.Income;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.security.AuthHelper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private BalanceAdjuster balanceAdjuster;
+    @Mock private MonthlyRollupService monthlyRollupService;
+    @Mock private BalanceSnapshotService balanceSnapshotService;
+    @Mock private EntityManager entityManager;
+    @Mock private AuthHelper authHelper;
+    @Mock private DataVersionService dataVersionService;
+
+    @InjectMocks
+    private ImportService importService;
+
+    private final List<Expense> savedExpenses = new ArrayList<>();
+    private final List<Income> savedIncomes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(accountRepository.findByUserId(1L)).thenReturn(List.of(
+                Account.builder().id(10L).name("Main").build(),
+                Account.builder().id(11L).name("Savings").build()));
+        when(categoryRepository.findByUserId(1L)).thenReturn(List.of(
+                Category.builder().id(20L).name("Food").build()));
+
+        lenient().when(entityManager.getReference(eq(Account.class), any()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(1)).build());
+        lenient().when(entityManager.getReference(eq(Category.class), any()))
+                .thenAnswer(inv -> Category.builder().id(inv.getArgument(1)).build());
+        lenient().when(expenseRepository.saveAll(anyList())).thenAnswer(inv -> {
+            savedExpenses.addAll(inv.getArgument(0));
+            return List.of();
+        });
+        lenient().when(incomeRepository.saveAll(anyList())).thenAnswer(inv -> {
+            savedIncomes.addAll(inv.getArgument(0));
+            return List.of();
+        });
+    }
+
+    @Test
+    void importTransactions_shouldBatchRowsAndApplyOneDeltaPerAccount() throws Exception {
+        String csv = """
+                type,date,amount,description,account,category,isReturn
+                expense,2025-03-01,12.50,"Coffee, large",Main,Food,false
+                expense,2025-03-02,2.50,Refund,main,food,true
+                income,2025-03-05,3000,"Salary
+                March",Savings,,
+                income,2025-03-06,100.00,,Main,,
+                """;
+
+        ImportResultResponse result = importService.importTransactions(stream(csv));
+
+        assertEquals(4, result.getImported());
+        assertEquals(0, result.getRejected());
+
+        assertEquals(2, savedExpenses.size());
+        Expense first = savedExpenses.get(0);
+        assertEquals(new BigDecimal("12.50"), first.getAmount());
+        assertEquals("Coffee, large", first.getDescription());
+        assertEquals(LocalDate.of(2025, 3, 1), first.getDate());
+        assertEquals(10L, first.getAccount().getId());
+        assertEquals(20L, first.getCategory().getId());
+        assertTrue(savedExpenses.get(1).getIsReturn());
+
+        assertEquals(2, savedIncomes.size());
+        assertEquals("Salary\nMarch", savedIncomes.get(0).getDescription());
+        assertEquals(11L, savedIncomes.get(0).getAccount().getId());
+        assertNull(savedIncomes.get(0).getCategory());
+        verify(entityManager).flush();
+
+        verify(balanceAdjuster).adjust(10L, 1L, new BigDecimal("90.00"));
+        verify(balanceAdjuster).adjust(11L, 1L, new BigDecimal("3000.00"));
+        verifyNoMoreInteractions(balanceAdjuster);
+
+        LocalDate march = LocalDate.of(2025, 3, 1);
+        verify(monthlyRollupService).apply(1L, new RollupKey(10L, 20L, march),
+                RollupDelta.expense(new BigDecimal("12.50"), false).plus(RollupDelta.expense(new BigDecimal("2.50"), true)));
+        verify(monthlyRollupService).apply(1L, new RollupKey(11L, null, march), RollupDelta.income(new BigDecimal("3000.00")));
+        verify(monthlyRollupService).apply(1L, new RollupKey(10L, null, march), RollupDelta.income(new BigDecimal("100.00")));
+        verifyNoMoreInteractions(monthlyRollupService);
+        verify(balanceSnapshotService).shift(10L, march, new BigDecimal("90.00"));
+        verify(balanceSnapshotService).shift(11L, march, new BigDecimal("3000.00"));
+    }
+
+    @Test
+    void importTransactions_shouldSkipAndReportInvalidRows() throws Exception {
+        String csv = """
+                type,date,amount,account,category
+                expense,2025-13-01,10.00,Main,Food
+                expense,2025-03-01,-5,Main,Food
+                expense,2025-03-01,5.00,Unknown,Food
+                expense,2025-03-01,5.00,Main,
+                transfer,2025-03-01,5.00,Main,Food
+                expense,2025-03-01,5.00,Main,Food
+                """;
+
+        ImportResultResponse result = importService.importTransactions(stream(csv));
+
+        assertEquals(1, result.getImported());
+        assertEquals(5, result.getRejected());
+        assertEquals(List.of(2, 3, 4, 5, 6),
+                result.getErrors().stream().map(e -> e.getLine()).toList());
+        verify(balanceAdjuster).adjust(10L, 1L, new BigDecimal("-5.00"));
+    }
+
+    @Test
+    void importTransactions_shouldFlushInBatches() throws Exception {
+        StringBuilder csv = new StringBuilder("type,date,amount,account,category\n");
+        int rows = ImportService.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            csv.append("expense,2025-03-01,1.00,Main,Food\n");
+        }
+
+        ImportResultResponse result = importService.importTransactions(stream(csv.toString()));
+
+        assertEquals(rows, result.getImported());
+        assertEquals(rows, savedExpenses.size());
+        verify(expenseRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+        verify(balanceAdjuster).adjust(10L, 1L, new BigDecimal("-" + rows + ".00"));
+    }
+
+    @Test
+    void importTransactions_shouldRejectHeaderWithoutRequiredColumns() {
+        assertThrows(BadRequestException.class,
+                () -> importService.importTransactions(stream("date,amount\n2025-03-01,1.00\n")));
+        verifyNoInteractions(expenseRepository, incomeRepository, balanceAdjuster, monthlyRollupService,
+                balanceSnapshotService);
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importTransactions_shouldUndoFormulaGuardOfExport() throws Exception {
+        String csv = """
+                type,date,amount,description,account,category,isReturn
+                expense,2025-03-01,1.00,'=1+1,Main,Food,false
+                expense,2025-03-01,1.00,''-note,Main,Food,false
+                expense,2025-03-01,1.00,'quoted,Main,Food,false
+                """;
+
+        ImportResultResponse result = importService.importTransactions(stream(csv));
+
+        assertEquals(3, result.getImported());
+        assertEquals("=1+1", savedExpenses.get(0).getDescription());
+        assertEquals("'-note", savedExpenses.get(1).getDescription());
+        assertEquals("'quoted", savedExpenses.get(2).getDescription());
+    }
+}
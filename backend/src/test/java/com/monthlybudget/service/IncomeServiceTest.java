@@ -1,12 +1,16 @@
 package com.monthlybudget.service;
 
 import com.monthlybudget.dto.request.IncomeRequest;
+import com.monthlybudget.dto.response.CursorPageResponse;
 import com.monthlybudget.dto.response.IncomeResponse;
+import com.monthlybudget.exception.BadRequestException;
 import com.monthlybudget.exception.ResourceNotFoundException;
 import com.monthlybudget.mapper.IncomeMapper;
 import com.monthlybudget.model.Account;
 import com.monthlybudget.model.Category;
+import com.monthlybudget.model.ChangeAction;
 import com.monthlybudget.model.Income;
+import com.monthlybudget.model.SyncEntityType;
 import com.monthlybudget.model.User;
 import com.monthlybudget.repository.AccountRepository;
 import com.monthlybudget.repository.CategoryRepository;
@@ -17,10 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,11 +38,20 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class IncomeServiceTest {
 
+    private static final LocalDate INCOME_DATE = LocalDate.of(2025, 3, 15);
+
     @Mock private IncomeRepository incomeRepository;
     @Mock private AccountRepository accountRepository;
     @Mock private CategoryRepository categoryRepository;
     @Mock private IncomeMapper incomeMapper;
     @Mock private AuthHelper authHelper;
+    @Mock private BalanceAdjuster balanceAdjuster;
+    @Mock private MonthlyRollupService monthlyRollupService;
+    @Mock private BalanceSnapshotService balanceSnapshotService;
+    @Mock private DataVersionService dataVersionService;
+    @Mock private ChangeStreamService changeStreamService;
+    @Spy private OptimisticRetry optimisticRetry =
+            new OptimisticRetry(TransactionOperations.withoutTransaction(), 3, 0);
 
     @InjectMocks
     private IncomeService incomeService;
@@ -56,7 +73,7 @@ class IncomeServiceTest {
     @Test
     void create_shouldAddToBalance() {
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
         when(incomeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(incomeMapper.toResponse(any())).thenReturn(new IncomeResponse());
 
@@ -69,22 +86,24 @@ class IncomeServiceTest {
 
         incomeService.create(request);
 
-        assertEquals(new BigDecimal("1500.00"), account.getCurrentBalance());
-        verify(accountRepository).save(account);
+        verify(balanceAdjuster).adjust(1L, 1L, new BigDecimal("500.00"));
+        verify(accountRepository, never()).save(any());
+        verify(monthlyRollupService).apply(1L, RollupKey.of(1L, null, request.getDate()),
+                RollupDelta.income(new BigDecimal("500.00")));
     }
 
     @Test
     void create_shouldThrowWhenAccountNotOwned() {
-        User otherUser = User.builder().id(2L).email("other@test.com").build();
-        Account otherAccount = Account.builder().id(2L).user(otherUser).build();
-
         when(authHelper.getCurrentUser()).thenReturn(user);
-        when(accountRepository.findById(2L)).thenReturn(Optional.of(otherAccount));
+        doThrow(new ResourceNotFoundException("Account", 2L))
+                .when(balanceAdjuster).adjust(eq(2L), eq(1L), any());
 
         IncomeRequest request = new IncomeRequest();
+        request.setAmount(new BigDecimal("10.00"));
         request.setAccountId(2L);
 
         assertThrows(ResourceNotFoundException.class, () -> incomeService.create(request));
+        verify(incomeRepository, never()).save(any());
     }
 
     @Test
@@ -93,6 +112,7 @@ class IncomeServiceTest {
                 .id(1L)
                 .amount(new BigDecimal("500.00"))
                 .account(account)
+                .date(INCOME_DATE)
                 .build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
@@ -100,7 +120,10 @@ class IncomeServiceTest {
 
         incomeService.delete(1L);
 
-        assertEquals(new BigDecimal("500.00"), account.getCurrentBalance());
+        verify(balanceAdjuster).adjust(1L, 1L, new BigDecimal("-500.00"));
+        verify(monthlyRollupService).apply(1L, RollupKey.of(1L, null, INCOME_DATE),
+                RollupDelta.income(new BigDecimal("500.00")).negate());
+        verify(balanceSnapshotService).shift(1L, INCOME_DATE, new BigDecimal("-500.00"));
         verify(incomeRepository).delete(income);
     }
 
@@ -110,11 +133,12 @@ class IncomeServiceTest {
                 .id(1L)
                 .amount(new BigDecimal("500.00"))
                 .account(account)
+                .date(INCOME_DATE)
                 .build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
         when(incomeRepository.findById(1L)).thenReturn(Optional.of(income));
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.getReferenceById(1L)).thenReturn(account);
         when(incomeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(incomeMapper.toResponse(any())).thenReturn(new IncomeResponse());
 
@@ -126,7 +150,8 @@ class IncomeServiceTest {
         request.setCategoryId(null);
 
         incomeService.update(1L, request);
-        assertEquals(new BigDecimal("1300.00"), account.getCurrentBalance());
+
+        verify(balanceAdjuster).move(1L, new BigDecimal("500.00"), 1L, new BigDecimal("800.00"), 1L);
     }
 
     @Test
@@ -142,11 +167,12 @@ class IncomeServiceTest {
                 .id(1L)
                 .amount(new BigDecimal("500.00"))
                 .account(account)
+                .date(INCOME_DATE)
                 .build();
 
         when(authHelper.getCurrentUser()).thenReturn(user);
         when(incomeRepository.findById(1L)).thenReturn(Optional.of(income));
-        when(accountRepository.findById(2L)).thenReturn(Optional.of(newAccount));
+        when(accountRepository.getReferenceById(2L)).thenReturn(newAccount);
         when(incomeRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(incomeMapper.toResponse(any())).thenReturn(new IncomeResponse());
 
@@ -159,8 +185,12 @@ class IncomeServiceTest {
 
         incomeService.update(1L, request);
 
-        assertEquals(new BigDecimal("500.00"), account.getCurrentBalance());
-        assertEquals(new BigDecimal("2500.00"), newAccount.getCurrentBalance());
+        verify(balanceAdjuster).move(1L, new BigDecimal("500.00"), 2L, new BigDecimal("500.00"), 1L);
+        verify(monthlyRollupService).move(1L,
+                RollupKey.of(1L, null, INCOME_DATE), RollupDelta.income(new BigDecimal("500.00")),
+                RollupKey.of(2L, null, request.getDate()), RollupDelta.income(new BigDecimal("500.00")));
+        assertEquals(newAccount, income.getAccount());
+        verify(changeStreamService).publish(1L, SyncEntityType.INCOME, ChangeAction.UPDATED, 1L, 0L, List.of(1L, 2L));
     }
 
     @Test
@@ -174,4 +204,50 @@ class IncomeServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> incomeService.getById(1L));
     }
+
+    // --- PAGE ---
+
+    @Test
+    void getPageForCurrentUser_shouldReturnNextCursorWhenMoreRowsExist() {
+        IncomeResponse first = pageRow(3L, LocalDate.of(2025, 3, 10));
+        IncomeResponse second = pageRow(2L, LocalDate.of(2025, 3, 9));
+        IncomeResponse extra = pageRow(1L, LocalDate.of(2025, 3, 8));
+
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(incomeRepository.findFirstPage(1L, Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        CursorPageResponse<IncomeResponse> page = incomeService.getPageForCurrentUser(null, 2);
+
+        assertEquals(List.of(first, second), page.getItems());
+        assertNotNull(page.getNextCursor());
+        incomeService.getPageForCurrentUser(page.getNextCursor(), 2);
+        verify(incomeRepository).findPageAfter(1L, LocalDate.of(2025, 3, 9), 2L, Limit.of(3));
+    }
+
+    @Test
+    void getPageForCurrentUser_shouldOmitCursorOnLastPage() {
+        when(authHelper.getCurrentUser()).thenReturn(user);
+        when(incomeRepository.findFirstPage(1L, Limit.of(3)))
+                .thenReturn(List.of(pageRow(1L, LocalDate.of(2025, 3, 8))));
+
+        CursorPageResponse<IncomeResponse> page = incomeService.getPageForCurrentUser(null, 2);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getPageForCurrentUser_shouldRejectMalformedCursor() {
+        when(authHelper.getCurrentUser()).thenReturn(user);
+
+        assertThrows(BadRequestException.class,
+                () -> incomeService.getPageForCurrentUser("not-a-cursor", 20));
+    }
+
+    private IncomeResponse pageRow(Long id, LocalDate date) {
+        IncomeResponse row = new IncomeResponse();
+        row.setId(id);
+        row.setDate(date);
+        return row;
+    }
 }
\ No newline at end of file
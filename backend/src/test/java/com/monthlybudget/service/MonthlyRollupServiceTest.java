@@ -0,0 +1,136 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.model.MonthlyRollup;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.repository.projection.RollupTotal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyRollupServiceTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+    private static final LocalDate APRIL = LocalDate.of(2025, 4, 1);
+
+    @Mock private MonthlyRollupRepository monthlyRollupRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private AccountRepository accountRepository;
+    @Mock private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private MonthlyRollupService monthlyRollupService;
+
+    @Test
+    void apply_shouldIncrementExistingBucket() {
+        when(monthlyRollupRepository.increment(eq(1L), eq(2L), eq(MARCH), any(), anyLong(), any(), anyLong(), any(), anyLong()))
+                .thenReturn(1);
+
+        monthlyRollupService.apply(1L, new RollupKey(1L, 2L, MARCH), RollupDelta.expense(new BigDecimal("10.00"), false));
+
+        verify(monthlyRollupRepository).increment(1L, 2L, MARCH,
+                new BigDecimal("10.00"), 1, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0);
+        verify(monthlyRollupRepository, never()).save(any());
+    }
+
+    @Test
+    void apply_shouldInsertBucketWhenMissing() {
+        when(monthlyRollupRepository.increment(any(), any(), any(), any(), anyLong(), any(), anyLong(), any(), anyLong()))
+                .thenReturn(0);
+
+        monthlyRollupService.apply(1L, new RollupKey(1L, null, MARCH), RollupDelta.income(new BigDecimal("500.00")));
+
+        verify(monthlyRollupRepository).upsert(1L, 1L, null, MARCH,
+                BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, new BigDecimal("500.00"), 1);
+        verify(monthlyRollupRepository, never()).save(any());
+    }
+
+    @Test
+    void move_withinSameBucket_shouldApplyNetChangeOnly() {
+        when(monthlyRollupRepository.increment(any(), any(), any(), any(), anyLong(), any(), anyLong(), any(), anyLong()))
+                .thenReturn(1);
+        RollupKey key = new RollupKey(1L, 2L, MARCH);
+
+        monthlyRollupService.move(1L, key, RollupDelta.expense(new BigDecimal("200.00"), false),
+                key, RollupDelta.expense(new BigDecimal("300.00"), false));
+
+        verify(monthlyRollupRepository).increment(1L, 2L, MARCH,
+                new BigDecimal("100.00"), 0, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0);
+        verifyNoMoreInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    void move_withUnchangedAmounts_shouldSkipUpdate() {
+        RollupKey key = new RollupKey(1L, 2L, MARCH);
+
+        monthlyRollupService.move(1L, key, RollupDelta.income(new BigDecimal("50.00")),
+                key, RollupDelta.income(new BigDecimal("50.00")));
+
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    void move_acrossMonths_shouldDecrementOldAndIncrementNew() {
+        when(monthlyRollupRepository.increment(any(), any(), any(), any(), anyLong(), any(), anyLong(), any(), anyLong()))
+                .thenReturn(1);
+
+        monthlyRollupService.move(1L, new RollupKey(1L, 2L, MARCH), RollupDelta.expense(new BigDecimal("20.00"), true),
+                new RollupKey(1L, 2L, APRIL), RollupDelta.expense(new BigDecimal("20.00"), true));
+
+        verify(monthlyRollupRepository).increment(1L, 2L, MARCH,
+                BigDecimal.ZERO, 0, new BigDecimal("-20.00"), -1, BigDecimal.ZERO, 0);
+        verify(monthlyRollupRepository).increment(1L, 2L, APRIL,
+                BigDecimal.ZERO, 0, new BigDecimal("20.00"), 1, BigDecimal.ZERO, 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildForUser_shouldMergeExpenseAndIncomeTotalsPerBucket() {
+        when(userRepository.lockById(1L)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(expenseRepository.sumForRollupsByUserId(1L)).thenReturn(List.of(
+                new RollupTotal(1L, 2L, 2025, 3, false, new BigDecimal("120.00"), 4L),
+                new RollupTotal(1L, 2L, 2025, 3, true, new BigDecimal("15.00"), 1L)));
+        when(incomeRepository.sumForRollupsByUserId(1L)).thenReturn(List.of(
+                new RollupTotal(1L, 2L, 2025, 3, false, new BigDecimal("900.00"), 2L),
+                new RollupTotal(1L, null, 2025, 4, false, new BigDecimal("50.00"), 1L)));
+
+        int buckets = monthlyRollupService.rebuildForUser(1L);
+
+        assertEquals(2, buckets);
+        verify(monthlyRollupRepository).deleteByUserId(1L);
+        ArgumentCaptor<List<MonthlyRollup>> saved = ArgumentCaptor.forClass(List.class);
+        verify(monthlyRollupRepository).saveAll(saved.capture());
+
+        MonthlyRollup march = saved.getValue().get(0);
+        assertEquals(MARCH, march.getMonthStart());
+        assertEquals(new BigDecimal("120.00"), march.getExpenseTotal());
+        assertEquals(4L, march.getExpenseCount());
+        assertEquals(new BigDecimal("15.00"), march.getReturnTotal());
+        assertEquals(new BigDecimal("900.00"), march.getIncomeTotal());
+        assertEquals(2L, march.getIncomeCount());
+
+        MonthlyRollup april = saved.getValue().get(1);
+        assertEquals(APRIL, april.getMonthStart());
+        assertEquals(1L, april.getIncomeCount());
+    }
+}
@@ -0,0 +1,58 @@
+package com.monthlybudget.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticRetryTest {
+
+    private final OptimisticRetry optimisticRetry =
+            new OptimisticRetry(TransactionOperations.withoutTransaction(), 3, 0);
+
+    @Test
+    void run_shouldReplayAfterConflict() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = optimisticRetry.run(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("stale");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(2, calls.get());
+        assertEquals(1, optimisticRetry.getRetryCount());
+    }
+
+    @Test
+    void run_shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> optimisticRetry.run(() -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        }));
+
+        assertEquals(3, calls.get());
+        assertEquals(2, optimisticRetry.getRetryCount());
+        assertEquals(1, optimisticRetry.getExhaustedCount());
+    }
+
+    @Test
+    void run_shouldNotRetryOtherFailures() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class, () -> optimisticRetry.run(() -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("bad");
+        }));
+
+        assertEquals(1, calls.get());
+        assertEquals(0, optimisticRetry.getRetryCount());
+    }
+}
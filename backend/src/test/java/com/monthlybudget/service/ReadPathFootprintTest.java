@@ -0,0 +1,183 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.model.Account;
+import com.monthlybudget.model.Category;
+import com.monthlybudget.model.Expense;
+import com.monthlybudget.model.Goal;
+import com.monthlybudget.model.Income;
+import com.monthlybudget.model.User;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.BalanceSnapshotRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.GoalRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.MonthlyRollupRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthenticatedUser;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every service read path against committed data and records what it cost the persistence layer:
+ * each must run in exactly one transaction that never flushes. Entity loads approximate the size of the
+ * persistence context the call built up and are logged so regressions show up in the test output.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Slf4j
+class ReadPathFootprintTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 15);
+
+    @Autowired private AccountService accountService;
+    @Autowired private CategoryService categoryService;
+    @Autowired private ExpenseService expenseService;
+    @Autowired private IncomeService incomeService;
+    @Autowired private GoalService goalService;
+    @Autowired private DashboardService dashboardService;
+    @Autowired private ReportService reportService;
+    @Autowired private BalanceHistoryService balanceHistoryService;
+    @Autowired private BalanceSnapshotService balanceSnapshotService;
+    @Autowired private BootstrapService bootstrapService;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private IncomeRepository incomeRepository;
+    @Autowired private GoalRepository goalRepository;
+    @Autowired private MonthlyRollupRepository monthlyRollupRepository;
+    @Autowired private BalanceSnapshotRepository balanceSnapshotRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Long accountId;
+    private Long categoryId;
+    private Long expenseId;
+    private Long incomeId;
+    private Long goalId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.save(User.builder().email("footprint@test.com").password("x").build());
+            Account account = accountRepository.save(Account.builder()
+                    .name("Main")
+                    .initialBalance(new BigDecimal("100.00"))
+                    .currentBalance(new BigDecimal("100.00"))
+                    .user(user)
+                    .build());
+            Category category = categoryRepository.save(
+                    Category.builder().name("Food").color("#000000").user(user).build());
+
+            for (int i = 0; i < 5; i++) {
+                Expense expense = expenseRepository.save(Expense.builder()
+                        .amount(new BigDecimal("10.00"))
+                        .date(DATE.plusDays(i))
+                        .account(account)
+                        .user(user)
+                        .category(category)
+                        .build());
+                expenseId = expense.getId();
+            }
+            incomeId = incomeRepository.save(Income.builder()
+                    .amount(new BigDecimal("50.00"))
+                    .date(DATE)
+                    .account(account)
+                    .user(user)
+                    .build()).getId();
+            goalId = goalRepository.save(Goal.builder()
+                    .name("Holiday")
+                    .targetAmount(new BigDecimal("1000.00"))
+                    .user(user)
+                    .category(category)
+                    .build()).getId();
+
+            accountId = account.getId();
+            categoryId = category.getId();
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    new AuthenticatedUser(user.getId(), user.getEmail(), null), null, List.of()));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        transactionTemplate.executeWithoutResult(status -> {
+            expenseRepository.deleteAllInBatch();
+            incomeRepository.deleteAllInBatch();
+            monthlyRollupRepository.deleteAllInBatch();
+            balanceSnapshotRepository.deleteAllInBatch();
+            goalRepository.deleteAllInBatch();
+            accountRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> readPathsUseOneReadOnlyTransaction() {
+        Map<String, Supplier<?>> readPaths = new LinkedHashMap<>();
+        readPaths.put("GET /api/accounts", () -> accountService.getAllForCurrentUser());
+        readPaths.put("GET /api/accounts/{id}", () -> accountService.getById(accountId));
+        readPaths.put("GET /api/accounts/{id}/balance", () -> balanceSnapshotService.getBalance(accountId, DATE));
+        readPaths.put("GET /api/accounts/{id}/balance-history",
+                () -> balanceHistoryService.getHistory(accountId, DATE.minusDays(7), DATE.plusDays(7)));
+        readPaths.put("GET /api/categories", () -> categoryService.getAllForCurrentUser());
+        readPaths.put("GET /api/categories/{id}", () -> categoryService.getById(categoryId));
+        readPaths.put("GET /api/expenses", () -> expenseService.getAllForCurrentUser());
+        readPaths.put("GET /api/expenses?limit=", () -> expenseService.getPageForCurrentUser(null, 20));
+        readPaths.put("GET /api/expenses/{id}", () -> expenseService.getById(expenseId));
+        readPaths.put("GET /api/incomes", () -> incomeService.getAllForCurrentUser());
+        readPaths.put("GET /api/incomes?limit=", () -> incomeService.getPageForCurrentUser(null, 20));
+        readPaths.put("GET /api/incomes/{id}", () -> incomeService.getById(incomeId));
+        readPaths.put("GET /api/goals", () -> goalService.getAllForCurrentUser());
+        readPaths.put("GET /api/goals/{id}", () -> goalService.getById(goalId));
+        readPaths.put("GET /api/bootstrap", () -> bootstrapService.getForCurrentUser(20));
+        readPaths.put("GET /api/dashboard/summary", () -> dashboardService.getSummary(null));
+        readPaths.put("GET /api/reports/timeseries", () -> reportService.getTimeseries(
+                TimeseriesGranularity.DAY, DATE, DATE.plusDays(7), null, null));
+
+        return readPaths.entrySet().stream().map(path -> DynamicTest.dynamicTest(path.getKey(), () -> {
+            Footprint footprint = measure(path.getValue());
+            log.info("{} -> {}", path.getKey(), footprint);
+
+            assertEquals(1, footprint.transactions(), "read path should run in a single transaction");
+            assertEquals(0, footprint.flushes(), "read-only transaction should never flush");
+        }));
+    }
+
+    private Footprint measure(Supplier<?> readPath) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        readPath.get();
+        return new Footprint(statistics.getTransactionCount(), statistics.getFlushCount(),
+                statistics.getEntityLoadCount(), statistics.getCollectionLoadCount(),
+                statistics.getPrepareStatementCount());
+    }
+
+    private record Footprint(long transactions, long flushes, long entitiesLoaded, long collectionsLoaded,
+                             long statements) {
+    }
+}
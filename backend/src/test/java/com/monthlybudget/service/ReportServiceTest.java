@@ -0,0 +1,82 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.TimeseriesPointResponse;
+import com.monthlybudget.dto.response.TimeseriesResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.repository.TimeseriesRepository;
+import com.monthlybudget.repository.projection.PeriodTotal;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportServiceTest {
+
+    @Mock private TimeseriesRepository timeseriesRepository;
+    @Mock private AuthHelper authHelper;
+
+    @InjectMocks
+    private ReportService reportService;
+
+    @Test
+    void getTimeseries_shouldZeroFillMissingMonths() {
+        LocalDate from = LocalDate.of(2025, 1, 10);
+        LocalDate to = LocalDate.of(2025, 4, 5);
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(timeseriesRepository.sumByPeriod(1L, "month", from, to, null, null)).thenReturn(List.of(
+                new PeriodTotal(LocalDate.of(2025, 1, 1), new BigDecimal("100.00"), BigDecimal.ZERO, new BigDecimal("3000.00")),
+                new PeriodTotal(LocalDate.of(2025, 3, 1), new BigDecimal("40.00"), new BigDecimal("5.00"), BigDecimal.ZERO)));
+
+        TimeseriesResponse response = reportService.getTimeseries(TimeseriesGranularity.MONTH, from, to, null, null);
+
+        List<TimeseriesPointResponse> points = response.getPoints();
+        assertEquals(4, points.size());
+        assertEquals(LocalDate.of(2025, 1, 1), points.get(0).getPeriodStart());
+        assertEquals(new BigDecimal("3000.00"), points.get(0).getIncome());
+        assertEquals(0, points.get(1).getSpent().signum());
+        assertEquals(new BigDecimal("5.00"), points.get(2).getReturns());
+        assertEquals(LocalDate.of(2025, 4, 1), points.get(3).getPeriodStart());
+    }
+
+    @Test
+    void getTimeseries_shouldFoldDailyRowsIntoWeeks() {
+        // 2025-03-03 is a Monday
+        LocalDate from = LocalDate.of(2025, 3, 3);
+        LocalDate to = LocalDate.of(2025, 3, 16);
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(timeseriesRepository.sumByPeriod(1L, "week", from, to, List.of(7L), null)).thenReturn(List.of(
+                new PeriodTotal(LocalDate.of(2025, 3, 4), new BigDecimal("10.00"), BigDecimal.ZERO, BigDecimal.ZERO),
+                new PeriodTotal(LocalDate.of(2025, 3, 9), new BigDecimal("15.00"), BigDecimal.ZERO, BigDecimal.ZERO),
+                new PeriodTotal(LocalDate.of(2025, 3, 10), new BigDecimal("1.00"), BigDecimal.ZERO, BigDecimal.ZERO)));
+
+        TimeseriesResponse response = reportService.getTimeseries(TimeseriesGranularity.WEEK, from, to, List.of(7L), null);
+
+        assertEquals(2, response.getPoints().size());
+        assertEquals(new BigDecimal("25.00"), response.getPoints().get(0).getSpent());
+        assertEquals(LocalDate.of(2025, 3, 10), response.getPoints().get(1).getPeriodStart());
+        assertEquals(new BigDecimal("1.00"), response.getPoints().get(1).getSpent());
+    }
+
+    @Test
+    void getTimeseries_shouldRejectRangesWithTooManyPoints() {
+        assertThrows(BadRequestException.class, () -> reportService.getTimeseries(TimeseriesGranularity.DAY,
+                LocalDate.of(2000, 1, 1), LocalDate.of(2025, 1, 1), null, null));
+        verifyNoInteractions(timeseriesRepository);
+    }
+
+    @Test
+    void getTimeseries_shouldRejectInvertedRange() {
+        assertThrows(BadRequestException.class, () -> reportService.getTimeseries(TimeseriesGranularity.MONTH,
+                LocalDate.of(2025, 5, 1), LocalDate.of(2025, 1, 1), null, null));
+    }
+}
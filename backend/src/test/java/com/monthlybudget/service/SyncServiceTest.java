@@ -0,0 +1,118 @@
+package com.monthlybudget.service;
+
+import com.monthlybudget.dto.response.SyncResponse;
+import com.monthlybudget.dto.response.TombstoneResponse;
+import com.monthlybudget.exception.BadRequestException;
+import com.monthlybudget.mapper.AccountMapper;
+import com.monthlybudget.mapper.CategoryMapper;
+import com.monthlybudget.mapper.GoalMapper;
+import com.monthlybudget.model.SyncEntityType;
+import com.monthlybudget.repository.AccountRepository;
+import com.monthlybudget.repository.CategoryRepository;
+import com.monthlybudget.repository.ExpenseRepository;
+import com.monthlybudget.repository.GoalRepository;
+import com.monthlybudget.repository.IncomeRepository;
+import com.monthlybudget.repository.TombstoneRepository;
+import com.monthlybudget.repository.UserRepository;
+import com.monthlybudget.security.AuthHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-15T10:00:00Z");
+
+    @Mock private AccountRepository accountRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private ExpenseRepository expenseRepository;
+    @Mock private IncomeRepository incomeRepository;
+    @Mock private GoalRepository goalRepository;
+    @Mock private TombstoneRepository tombstoneRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private AccountMapper accountMapper;
+    @Mock private CategoryMapper categoryMapper;
+    @Mock private GoalMapper goalMapper;
+    @Mock private AuthHelper authHelper;
+
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(accountRepository, categoryRepository, expenseRepository, incomeRepository,
+                goalRepository, tombstoneRepository, userRepository, accountMapper, categoryMapper, goalMapper,
+                authHelper, Duration.ofDays(90), Clock.fixed(NOW, ZoneOffset.UTC));
+        when(authHelper.getCurrentUserId()).thenReturn(1L);
+        when(userRepository.findDataVersionById(1L)).thenReturn(Optional.of(12L));
+    }
+
+    @Test
+    void changesSince_shouldQueryFromTokenVersionAndReportDeletions() {
+        List<TombstoneResponse> deleted = List.of(new TombstoneResponse(SyncEntityType.EXPENSE, 40L));
+        when(accountRepository.findIdsByUserId(1L)).thenReturn(List.of(5L));
+        when(tombstoneRepository.findResponsesChangedSince(1L, 7L)).thenReturn(deleted);
+
+        SyncResponse response = syncService.changesSince(new SyncToken(7L, NOW.minusSeconds(60)).encode());
+
+        assertFalse(response.isFullResync());
+        assertEquals(deleted, response.getDeleted());
+        assertEquals(new SyncToken(12L, NOW), SyncToken.decode(response.getToken()));
+        verify(expenseRepository).findResponsesChangedSince(List.of(5L), 7L);
+        verify(incomeRepository).findResponsesChangedSince(List.of(5L), 7L);
+        verify(accountRepository).findByUserIdAndChangeVersionGreaterThan(1L, 7L);
+        verify(categoryRepository).findByUserIdAndChangeVersionGreaterThan(1L, 7L);
+        verify(goalRepository).findByUserIdAndChangeVersionGreaterThan(1L, 7L);
+    }
+
+    @Test
+    void changesSince_shouldResyncEverythingWithoutToken() {
+        when(accountRepository.findIdsByUserId(1L)).thenReturn(List.of());
+
+        SyncResponse response = syncService.changesSince(null);
+
+        assertTrue(response.isFullResync());
+        assertTrue(response.getDeleted().isEmpty());
+        verify(accountRepository).findByUserIdAndChangeVersionGreaterThan(1L, -1L);
+        verify(expenseRepository, never()).findResponsesChangedSince(any(), anyLong());
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void changesSince_shouldResyncWhenTombstonesMayHaveBeenPurged() {
+        when(accountRepository.findIdsByUserId(1L)).thenReturn(List.of());
+
+        SyncResponse response = syncService.changesSince(
+                new SyncToken(7L, NOW.minus(Duration.ofDays(91))).encode());
+
+        assertTrue(response.isFullResync());
+        verify(categoryRepository).findByUserIdAndChangeVersionGreaterThan(1L, -1L);
+    }
+
+    @Test
+    void changesSince_shouldResyncWhenTokenIsAheadOfServer() {
+        when(accountRepository.findIdsByUserId(1L)).thenReturn(List.of());
+
+        SyncResponse response = syncService.changesSince(new SyncToken(99L, NOW).encode());
+
+        assertTrue(response.isFullResync());
+    }
+
+    @Test
+    void changesSince_shouldRejectMalformedToken() {
+        assertThrows(BadRequestException.class, () -> syncService.changesSince("not-a-token"));
+    }
+}
@@ -0,0 +1,24 @@
+import { Expense } from './expense.model';
+
+export interface CategorySpending {
+  categoryId: number;
+  categoryName: string;
+  categoryColor: string;
+  amount: number;
+}
+
+export interface MonthlySpending {
+  month: string;
+  spent: number;
+  returns: number;
+}
+
+export interface DashboardSummary {
+  totalBalance: number;
+  currentMonthExpenses: number;
+  currentMonthIncome: number;
+  accountCount: number;
+  categorySpending: CategorySpending[];
+  monthlySpending: MonthlySpending[];
+  recentExpenses: Expense[];
+}
@@ -7,6 +7,7 @@ export interface Goal {
   categoryId: number;
   categoryName: string;
   progressPercentage: number;
+  version: number;
 }
 
 export interface GoalRequest {
@@ -14,4 +15,6 @@ export interface GoalRequest {
   targetAmount: number;
   deadline?: string;
   categoryId?: number;
+  currentAmount?: number;
+  version?: number;
 }
\ No newline at end of file
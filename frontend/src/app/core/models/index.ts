@@ -4,3 +4,4 @@ export * from './category.model';
 export * from './expense.model';
 export * from './goal.model';
 export * from './income.model';
+export * from './dashboard.model';
@@ -1,8 +1,9 @@
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Account, AccountRequest } from '../models/account.model';
 import { Category, CategoryRequest } from '../models/category.model';
+import { DashboardSummary } from '../models/dashboard.model';
 import { Expense, ExpenseRequest } from '../models/expense.model';
 import { Goal, GoalRequest } from '../models/goal.model';
 import { Income, IncomeRequest } from '../models/income.model';
@@ -116,4 +117,11 @@ export class ApiService {
   deleteIncome(id: number): Observable<void> {
     return this.http.delete<void>(`${this.base}/incomes/${id}`);
   }
+
+  // ─── Dashboard ─────────────────────────
+  getDashboardSummary(accountIds?: number[]): Observable<DashboardSummary> {
+    let params = new HttpParams();
+    accountIds?.forEach(id => (params = params.append('accountIds', id)));
+    return this.http.get<DashboardSummary>(`${this.base}/dashboard/summary`, { params });
+  }
 }
@@ -3,6 +3,7 @@ import { CommonModule } from '@angular/common';
 import { RouterModule } from '@angular/router';
 import { BaseChartDirective } from 'ng2-charts';
 import { FormsModule } from '@angular/forms';
+import { Subscription } from 'rxjs';
 import { ChartConfiguration, ChartData } from 'chart.js';
 import {
   Chart,
@@ -16,7 +17,7 @@ import {
   PieController,
 } from 'chart.js';
 import { ApiService } from '../../core/services/api.service';
-import { Expense, Account, Category, Income } from '../../core/models';
+import { Account, Category, DashboardSummary } from '../../core/models';
 
 Chart.register(
   ArcElement,
@@ -37,30 +38,15 @@ Chart.register(
   styleUrl: './dashboard.component.scss',
 })
 export class DashboardComponent implements OnInit {
-  expenses = signal<Expense[]>([]);
+  summary = signal<DashboardSummary | null>(null);
+  summaryError = signal(false);
   accounts = signal<Account[]>([]);
   categories = signal<Category[]>([]);
   loading = signal(true);
-  incomes = signal<Income[]>([]);
 
   selectedAccountIds = signal<Set<number>>(new Set());
   filterDropdownOpen = signal(false);
 
-  filteredExpenses = computed(() => {
-    const ids = this.selectedAccountIds();
-    return this.expenses().filter(e => ids.has(e.accountId));
-  });
-
-  filteredIncomes = computed(() => {
-    const ids = this.selectedAccountIds();
-    return this.incomes().filter(i => ids.has(i.accountId));
-  });
-
-  filteredAccounts = computed(() => {
-    const ids = this.selectedAccountIds();
-    return this.accounts().filter(a => ids.has(a.id));
-  });
-
   allAccountsSelected = computed(() =>
     this.selectedAccountIds().size === this.accounts().length
   );
@@ -71,56 +57,25 @@ export class DashboardComponent implements OnInit {
   });
 
   // Stats
-  totalBalance = computed(() =>
-    this.filteredAccounts().reduce((s, a) => s + a.currentBalance, 0)
-  );
+  totalBalance = computed(() => this.summary()?.totalBalance ?? 0);
 
-  currentMonthExpenses = computed(() => {
-    const now = new Date();
-    const y = now.getFullYear();
-    const m = now.getMonth();
-    return this.filteredExpenses()
-      .filter((e) => {
-        const d = new Date(e.date);
-        return d.getFullYear() === y && d.getMonth() === m && !e.isReturn;
-      })
-      .reduce((s, e) => s + e.amount, 0);
-  });
+  currentMonthExpenses = computed(() => this.summary()?.currentMonthExpenses ?? 0);
 
-  currentMonthIncome = computed(() => {
-  const now = new Date();
-  const y = now.getFullYear();
-  const m = now.getMonth();
-  return this.filteredIncomes()
-    .filter((i) => {
-      const d = new Date(i.date);
-      return d.getFullYear() === y && d.getMonth() === m;
-    })
-    .reduce((s, i) => s + i.amount, 0);
-});
+  currentMonthIncome = computed(() => this.summary()?.currentMonthIncome ?? 0);
 
   totalAccounts = computed(() => this.selectedAccountIds().size);
 
-  recentExpenses = computed(() => this.filteredExpenses().slice(0, 7));
+  recentExpenses = computed(() => this.summary()?.recentExpenses ?? []);
+
+  hasExpenses = computed(() => (this.summary()?.categorySpending.length ?? 0) > 0);
 
   // Pie chart
   pieData = computed<ChartData<'pie'>>(() => {
-    const map = new Map<string, number>();
-    const colorMap = new Map<string, string>();
-
-    this.filteredExpenses()
-      .filter((e) => !e.isReturn)
-      .forEach((e) => {
-        const name = e.categoryName || 'Other';
-        map.set(name, (map.get(name) || 0) + e.amount);
-        if (!colorMap.has(name)) {
-          colorMap.set(name, e.categoryColor || '#6B7B8D');
-        }
-      });
-
-    const labels = Array.from(map.keys());
-    const data = Array.from(map.values());
-    const colors = labels.map((l) => colorMap.get(l) || '#6B7B8D');
+    const spending = this.summary()?.categorySpending ?? [];
+
+    const labels = spending.map((c) => c.categoryName || 'Other');
+    const data = spending.map((c) => c.amount);
+    const colors = spending.map((c) => c.categoryColor || '#6B7B8D');
 
     return {
       labels,
@@ -170,31 +125,14 @@ export class DashboardComponent implements OnInit {
 
   // Bar chart — last 6 months
   barData = computed<ChartData<'bar'>>(() => {
-    const now = new Date();
-    const months: string[] = [];
-    const spent: number[] = [];
-    const returns: number[] = [];
-
-    for (let i = 5; i >= 0; i--) {
-      const d = new Date(now.getFullYear(), now.getMonth() - i, 1);
-      const y = d.getFullYear();
-      const m = d.getMonth();
-      months.push(
-        d.toLocaleDateString('en-US', { month: 'short', year: '2-digit' })
-      );
-
-      const monthExps = this.filteredExpenses().filter((e) => {
-        const ed = new Date(e.date);
-        return ed.getFullYear() === y && ed.getMonth() === m;
-      });
-
-      spent.push(
-        monthExps.filter((e) => !e.isReturn).reduce((s, e) => s + e.amount, 0)
-      );
-      returns.push(
-        monthExps.filter((e) => e.isReturn).reduce((s, e) => s + e.amount, 0)
-      );
-    }
+    const monthly = this.summary()?.monthlySpending ?? [];
+
+    const months = monthly.map((m) => {
+      const [y, mo] = m.month.split('-').map(Number);
+      return new Date(y, mo - 1, 1).toLocaleDateString('en-US', { month: 'short', year: '2-digit' });
+    });
+    const spent = monthly.map((m) => m.spent);
+    const returns = monthly.map((m) => m.returns);
 
     return {
       labels: months,
@@ -266,6 +204,8 @@ export class DashboardComponent implements OnInit {
     },
   };
 
+  private summaryRequest?: Subscription;
+
   constructor(private api: ApiService) {}
 
   ngOnInit() {
@@ -277,12 +217,14 @@ export class DashboardComponent implements OnInit {
     let loaded = 0;
     const done = () => {
       loaded++;
-      if (loaded >= 4) this.loading.set(false);
+      if (loaded >= 3) this.loading.set(false);
     };
 
-    this.api.getExpenses().subscribe({
-      next: (d) => { this.expenses.set(d); done(); },
-      error: () => done(),
+    this.summaryError.set(false);
+    this.summaryRequest?.unsubscribe();
+    this.summaryRequest = this.api.getDashboardSummary().subscribe({
+      next: (d) => { this.summary.set(d); done(); },
+      error: () => { this.summaryError.set(true); done(); },
     });
     this.api.getAccounts().subscribe({
       next: (d) => {
@@ -296,9 +238,22 @@ export class DashboardComponent implements OnInit {
       next: (d) => { this.categories.set(d); done(); },
       error: () => done(),
     });
-    this.api.getIncomes().subscribe({
-    next: (d) => { this.incomes.set(d); done(); },
-    error: () => done(),
+  }
+
+  loadSummary() {
+    // Cancel the request for the previous filter so a slower, older response can't replace this one
+    this.summaryRequest?.unsubscribe();
+    this.summaryError.set(false);
+
+    const ids = this.selectedAccountIds();
+    if (ids.size === 0) {
+      this.summary.set(null);
+      return;
+    }
+    const filter = this.allAccountsSelected() ? undefined : Array.from(ids);
+    this.summaryRequest = this.api.getDashboardSummary(filter).subscribe({
+      next: (d) => this.summary.set(d),
+      error: () => this.summaryError.set(true),
     });
   }
 
@@ -310,6 +265,7 @@ export class DashboardComponent implements OnInit {
       current.add(accountId);
     }
     this.selectedAccountIds.set(current);
+    this.loadSummary();
   }
 
   toggleAllAccounts(): void {
@@ -318,6 +274,7 @@ export class DashboardComponent implements OnInit {
     } else {
       this.selectedAccountIds.set(new Set(this.accounts().map(a => a.id)));
     }
+    this.loadSummary();
   }
 
   toggleFilterDropdown(): void {
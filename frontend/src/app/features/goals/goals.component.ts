@@ -1,5 +1,6 @@
 import { Component, OnInit, signal, computed } from '@angular/core';
 import { CommonModule } from '@angular/common';
+import { HttpErrorResponse } from '@angular/common/http';
 import { FormsModule } from '@angular/forms';
 import { ApiService } from '../../core/services/api.service';
 import { Goal, GoalRequest, Category } from '../../core/models';
@@ -147,14 +148,18 @@ export class GoalsComponent implements OnInit {
     const editing = this.editingGoal();
 
     if (editing) {
+      request.version = editing.version;
       this.api.updateGoal(editing.id, request).subscribe({
         next: () => {
           this.loadAll();
           this.closeModal();
           this.saving.set(false);
         },
-        error: () => {
-          this.formError = 'Failed to update goal';
+        error: (err: HttpErrorResponse) => {
+          this.formError = err.status === 409
+            ? 'This goal was changed elsewhere. Close and reopen it to see the latest version.'
+            : 'Failed to update goal';
+          if (err.status === 409) this.loadAll();
           this.saving.set(false);
         },
       });
@@ -205,20 +210,21 @@ export class GoalsComponent implements OnInit {
       targetAmount: goal.targetAmount,
       deadline: goal.deadline || undefined,
       categoryId: goal.categoryId || undefined,
+      currentAmount: newAmount,
+      version: goal.version,
     };
 
-    // NOTE: This uses the standard update endpoint.
-    // If backend supports currentAmount in GoalRequest, add it here:
-    (request as any).currentAmount = newAmount;
-
     this.api.updateGoal(goal.id, request).subscribe({
       next: () => {
         this.loadAll();
         this.closeFundModal();
         this.fundSaving.set(false);
       },
-      error: () => {
-        this.fundError = 'Failed to add funds';
+      error: (err: HttpErrorResponse) => {
+        this.fundError = err.status === 409
+          ? 'This goal was changed elsewhere. Close and reopen it to see the latest amount.'
+          : 'Failed to add funds';
+        if (err.status === 409) this.loadAll();
         this.fundSaving.set(false);
       },
     });